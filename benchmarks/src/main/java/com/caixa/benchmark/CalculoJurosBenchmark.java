@@ -0,0 +1,88 @@
+package com.caixa.benchmark;
+
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.service.CalculoJurosService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão do motor de cálculo de juros para os prazos de referência e
+ * as taxas cadastradas em import.sql. Execute com o profiler de GC para obter
+ * também os bytes alocados por operação (gc.alloc.rate.norm):
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CalculoJurosBenchmark {
+
+    private static final BigDecimal VALOR_SOLICITADO = new BigDecimal("10000.00");
+    private static final int PRAZO_MAXIMO_MESES = 360;
+
+    @Param({"12", "60", "84", "360"})
+    int prazoMeses;
+
+    @Param({"18.00", "12.00", "8.50", "15.00", "22.00"})
+    String taxaJurosAnual;
+
+    private CalculoJurosService calculoJurosService;
+    private BigDecimal taxaAnual;
+    private BigDecimal taxaMensal;
+    private ProdutoEmprestimo produtoCadastrado;
+    private ProdutoEmprestimo produtoSemId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        calculoJurosService = new CalculoJurosService();
+        taxaAnual = new BigDecimal(taxaJurosAnual);
+        taxaMensal = calculoJurosService.calcularTaxaJurosEfetivaMensal(taxaAnual);
+
+        // Produto com ID: a tabela de taxas fica em cache, como acontece em produção
+        produtoCadastrado = new ProdutoEmprestimo("Produto Benchmark", taxaAnual, PRAZO_MAXIMO_MESES);
+        produtoCadastrado.id = 1L;
+        calculoJurosService.simularEmprestimo(produtoCadastrado, VALOR_SOLICITADO, prazoMeses);
+
+        // Produto sem ID: a tabela é reconstruída a cada simulação, expondo o custo de montá-la
+        produtoSemId = new ProdutoEmprestimo("Produto Benchmark", taxaAnual, prazoMeses);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTaxaJurosEfetivaMensal() {
+        return calculoJurosService.calcularTaxaJurosEfetivaMensal(taxaAnual);
+    }
+
+    @Benchmark
+    public BigDecimal calcularValorParcela() {
+        return calculoJurosService.calcularValorParcela(VALOR_SOLICITADO, taxaMensal, prazoMeses);
+    }
+
+    @Benchmark
+    public SimulacaoEmprestimoResponse simularEmprestimo() {
+        return calculoJurosService.simularEmprestimo(produtoCadastrado, VALOR_SOLICITADO, prazoMeses);
+    }
+
+    @Benchmark
+    public SimulacaoEmprestimoResponse simularEmprestimoSemCache() {
+        return calculoJurosService.simularEmprestimo(produtoSemId, VALOR_SOLICITADO, prazoMeses);
+    }
+}
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Compara vazão e p99 dos endpoints com threads virtuais e com o pool de workers.
+# Requer JDK 21+ (baseline do projeto), k6 e jq. Uso: ./loadtest/comparar-modos.sh [VUS] [DURACAO]
+set -euo pipefail
+
+VUS="${1:-1200}"
+DURACAO="${2:-60s}"
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+SAIDA="$RAIZ/target/loadtest"
+BASE_URL="http://localhost:8080"
+
+trap 'kill $(jobs -p) 2>/dev/null || true' EXIT
+
+mkdir -p "$SAIDA"
+if [ ! -f "$RAIZ/target/quarkus-app/quarkus-run.jar" ]; then
+    (cd "$RAIZ" && mvn -B package -DskipTests)
+fi
+
+executar() {
+    local modo="$1" virtuais="$2"
+    java -Dquarkus.virtual-threads.enabled="$virtuais" -Dquarkus.hibernate-orm.log.sql=false \
+        -jar "$RAIZ/target/quarkus-app/quarkus-run.jar" > "$SAIDA/app-$modo.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "$BASE_URL/q/health/ready" > /dev/null; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURACAO="$DURACAO" \
+        --summary-export "$SAIDA/resumo-$modo.json" "$RAIZ/loadtest/simulacao.js"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+executar workers false
+executar virtuais true
+
+printf '\n%-10s %14s %12s %12s %10s\n' "modo" "req/s" "p95 (ms)" "p99 (ms)" "falhas"
+for modo in workers virtuais; do
+    jq -r --arg modo "$modo" '[
+        $modo,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration["p(95)"] * 100 | round / 100),
+        (.metrics.http_req_duration["p(99)"] * 100 | round / 100),
+        (.metrics.http_req_failed.value * 10000 | round / 100 | tostring + "%")
+    ] | @tsv' "$SAIDA/resumo-$modo.json" | awk -F'\t' '{ printf "%-10s %14s %12s %12s %10s\n", $1, $2, $3, $4, $5 }'
+done
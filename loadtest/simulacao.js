@@ -0,0 +1,43 @@
+// Teste de carga dos endpoints de produtos e simulação com k6 (https://k6.io).
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=1200 -e DURACAO=60s loadtest/simulacao.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUTOS = [1, 2, 3, 4, 5];
+const PRAZOS = [12, 24, 48];
+const CABECALHOS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        clientes_concorrentes: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 1200),
+            duration: __ENV.DURACAO || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    discardResponseBodies: true,
+};
+
+function sortear(valores) {
+    return valores[Math.floor(Math.random() * valores.length)];
+}
+
+export default function () {
+    const idProduto = sortear(PRODUTOS);
+    const requisicao = JSON.stringify({
+        idProduto: idProduto,
+        valorSolicitado: 10000.00,
+        prazoMeses: sortear(PRAZOS),
+    });
+
+    const respostas = http.batch([
+        ['GET', `${BASE_URL}/api/produtos`, null, { tags: { endpoint: 'listar' } }],
+        ['GET', `${BASE_URL}/api/produtos/${idProduto}`, null, { tags: { endpoint: 'buscar' } }],
+        ['POST', `${BASE_URL}/api/produtos/simulacao`, requisicao, Object.assign({ tags: { endpoint: 'simulacao' } }, CABECALHOS)],
+        ['POST', `${BASE_URL}/api/produtos/simulacao/resumo`, requisicao, Object.assign({ tags: { endpoint: 'resumo' } }, CABECALHOS)],
+    ]);
+
+    respostas.forEach((resposta) => check(resposta, { 'status 200': (r) => r.status === 200 }));
+}
@@ -1,5 +1,8 @@
 package com.caixa.controller;
 
+import io.smallrye.health.SmallRyeHealth;
+import io.smallrye.health.SmallRyeHealthReporter;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -7,6 +10,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 @Path("/health")
@@ -14,16 +18,32 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Tag(name = "Health Check", description = "Verificação de saúde da API")
 public class HealthCheckController {
 
+    @Inject
+    SmallRyeHealthReporter healthReporter;
+
     @GET
     @Operation(
         summary = "Verificar saúde da API",
-        description = "Retorna o status de saúde da API"
-    )
-    @APIResponse(
-        responseCode = "200",
-        description = "API funcionando corretamente"
+        description = "Retorna o status de prontidão da API, considerando banco de dados, pool de conexões " +
+                     "e aquecimento do catálogo. As sondas detalhadas ficam em /q/health/live e /q/health/ready"
     )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "API funcionando corretamente"
+        ),
+        @APIResponse(
+            responseCode = "503",
+            description = "API indisponível ou ainda aquecendo"
+        )
+    })
     public Response healthCheck() {
+        SmallRyeHealth prontidao = healthReporter.getReadiness();
+        if (prontidao.isDown()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .entity(new HealthStatus("DOWN", "API indisponível: banco de dados ou catálogo não estão prontos"))
+                .build();
+        }
         return Response.ok(new HealthStatus("UP", "API funcionando corretamente")).build();
     }
 
@@ -0,0 +1,116 @@
+package com.caixa.controller;
+
+import com.caixa.dto.ImportacaoProdutosResponse;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.service.ProdutoEmprestimoCargaService;
+import io.smallrye.common.annotation.Blocking;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import java.io.InputStream;
+
+/**
+ * Carga de produtos em massa. Disponível nos dois modos da API; as operações leem e
+ * escrevem streams e usam o banco por longos períodos, então rodam no pool de workers.
+ */
+@Path("/api/produtos/carga")
+@Tag(name = "Produtos de Empréstimo", description = "Operações para gerenciar produtos de empréstimo")
+public class ProdutoEmprestimoCargaController {
+
+    static final String TEXT_CSV = "text/csv";
+
+    @Inject
+    ProdutoEmprestimoCargaService produtoEmprestimoCargaService;
+
+    @POST
+    @Blocking
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Importar produtos (JSON)",
+        description = "Importa um array JSON de produtos em uma única transação, com inserts em batch"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "201",
+            description = "Produtos importados com sucesso",
+            content = @Content(schema = @Schema(implementation = ImportacaoProdutosResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Conteúdo malformado ou produto inválido; nada é importado"
+        )
+    })
+    public Response importarJson(InputStream conteudo) {
+        ImportacaoProdutosResponse resultado = produtoEmprestimoCargaService.importarJson(conteudo);
+        return Response.status(Response.Status.CREATED).entity(resultado).build();
+    }
+
+    @POST
+    @Blocking
+    @Consumes(TEXT_CSV)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Importar produtos (CSV)",
+        description = "Importa um CSV com cabeçalho nome,taxaJurosAnual,prazoMaximoMeses em uma única transação"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "201",
+            description = "Produtos importados com sucesso",
+            content = @Content(schema = @Schema(implementation = ImportacaoProdutosResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Conteúdo malformado ou produto inválido; nada é importado"
+        )
+    })
+    public Response importarCsv(InputStream conteudo) {
+        ImportacaoProdutosResponse resultado = produtoEmprestimoCargaService.importarCsv(conteudo);
+        return Response.status(Response.Status.CREATED).entity(resultado).build();
+    }
+
+    @GET
+    @Blocking
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Exportar produtos (JSON)",
+        description = "Transmite todos os produtos como um array JSON"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Produtos exportados com sucesso",
+        content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+    )
+    public Response exportarJson() {
+        StreamingOutput corpo = produtoEmprestimoCargaService::exportarJson;
+        return Response.ok(corpo, MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    @GET
+    @Blocking
+    @Produces(TEXT_CSV)
+    @Operation(
+        summary = "Exportar produtos (CSV)",
+        description = "Transmite todos os produtos em CSV, no formato aceito pela importação"
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Produtos exportados com sucesso"
+    )
+    public Response exportarCsv() {
+        StreamingOutput corpo = produtoEmprestimoCargaService::exportarCsv;
+        return Response.ok(corpo, TEXT_CSV + "; charset=UTF-8")
+            .header("Content-Disposition", "attachment; filename=\"produtos.csv\"")
+            .build();
+    }
+}
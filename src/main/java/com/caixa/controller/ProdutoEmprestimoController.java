@@ -1,21 +1,42 @@
 package com.caixa.controller;
 
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
 import com.caixa.dto.ProdutoEmprestimoRequest;
 import com.caixa.dto.SimulacaoEmprestimoRequest;
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.VersaoCatalogo;
 import com.caixa.service.ProdutoEmprestimoService;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
 import java.util.List;
 
@@ -23,31 +44,78 @@ import java.util.List;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Produtos de Empréstimo", description = "Operações para gerenciar produtos de empréstimo")
+@UnlessBuildProperty(name = "caixa.api.modo", stringValue = "reativo", enableIfMissing = true)
 public class ProdutoEmprestimoController {
 
     @Inject
     ProdutoEmprestimoService produtoEmprestimoService;
 
     @GET
+    @RunOnVirtualThread
     @Operation(
         summary = "Listar todos os produtos",
-        description = "Retorna uma lista com todos os produtos de empréstimo cadastrados"
+        description = "Retorna uma lista com todos os produtos de empréstimo cadastrados. " +
+                     "Envie a ETag recebida em If-None-Match para receber 304 enquanto o catálogo não mudar"
     )
-    @APIResponse(
-        responseCode = "200",
-        description = "Lista de produtos retornada com sucesso",
-        content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lista de produtos retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+        ),
+        @APIResponse(
+            responseCode = "304",
+            description = "Catálogo não modificado desde a versão informada"
+        )
+    })
+    public Response listarTodos(@Context Request request) {
+        // A versão é lida antes da lista: um corpo nunca é mais antigo que a ETag enviada com ele
+        VersaoCatalogo versao = produtoEmprestimoService.obterVersaoCatalogo();
+        return RespostaCondicional.responder(request, RespostaCondicional.etag(versao),
+            RespostaCondicional.ultimaModificacao(versao.ultimaAtualizacao()), produtoEmprestimoService::listarTodos);
+    }
+
+    @GET
+    @Path("/pagina")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Listar produtos paginados",
+        description = "Retorna uma página de produtos com id, nome e taxa, ordenada por id, nome ou taxa. " +
+                     "Use o proximoCursor retornado para obter a página seguinte"
     )
-    public Response listarTodos() {
-        List<ProdutoEmprestimo> produtos = produtoEmprestimoService.listarTodos();
-        return Response.ok(produtos).build();
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Página de produtos retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimoPaginaResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Ordenação, direção, cursor ou tamanho inválidos"
+        )
+    })
+    public Response listarPagina(
+            @Parameter(description = "Campo de ordenação: id, nome ou taxa")
+            @QueryParam("ordenarPor") @DefaultValue("id") String ordenarPor,
+            @Parameter(description = "Direção da ordenação: asc ou desc")
+            @QueryParam("direcao") @DefaultValue("asc") String direcao,
+            @Parameter(description = "Cursor retornado pela página anterior")
+            @QueryParam("cursor") String cursor,
+            @Parameter(description = "Quantidade de itens por página (1 a 100)")
+            @QueryParam("tamanho") @DefaultValue("20")
+            @Min(value = 1, message = "Tamanho da página deve ser ao menos 1")
+            @Max(value = 100, message = "Tamanho da página deve ser no máximo 100") int tamanho) {
+        ProdutoEmprestimoPaginaResponse pagina = produtoEmprestimoService.listarPagina(ordenarPor, direcao, cursor, tamanho);
+        return Response.ok(pagina).build();
     }
 
     @GET
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(
         summary = "Buscar produto por ID",
-        description = "Retorna um produto específico baseado no ID fornecido"
+        description = "Retorna um produto específico baseado no ID fornecido. " +
+                     "Envie a ETag recebida em If-None-Match para receber 304 enquanto o produto não mudar"
     )
     @APIResponses({
         @APIResponse(
@@ -55,17 +123,23 @@ public class ProdutoEmprestimoController {
             description = "Produto encontrado com sucesso",
             content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
         ),
+        @APIResponse(
+            responseCode = "304",
+            description = "Produto não modificado desde a versão informada"
+        ),
         @APIResponse(
             responseCode = "404",
             description = "Produto não encontrado"
         )
     })
-    public Response buscarPorId(@PathParam("id") Long id) {
+    public Response buscarPorId(@PathParam("id") Long id, @Context Request request) {
         ProdutoEmprestimo produto = produtoEmprestimoService.buscarPorId(id);
-        return Response.ok(produto).build();
+        return RespostaCondicional.responder(request, RespostaCondicional.etag(produto),
+            RespostaCondicional.ultimaModificacao(produto.atualizadoEm), () -> produto);
     }
 
     @POST
+    @RunOnVirtualThread
     @Operation(
         summary = "Criar novo produto",
         description = "Cria um novo produto de empréstimo com as informações fornecidas"
@@ -88,9 +162,11 @@ public class ProdutoEmprestimoController {
 
     @PUT
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(
         summary = "Atualizar produto",
-        description = "Atualiza um produto existente com as novas informações fornecidas"
+        description = "Atualiza um produto existente com as novas informações fornecidas. " +
+                     "Com If-Match, a atualização só é aplicada se o produto ainda estiver na versão informada"
     )
     @APIResponses({
         @APIResponse(
@@ -105,15 +181,25 @@ public class ProdutoEmprestimoController {
         @APIResponse(
             responseCode = "400",
             description = "Dados inválidos fornecidos"
+        ),
+        @APIResponse(
+            responseCode = "412",
+            description = "Produto alterado por outra requisição desde a versão informada em If-Match"
         )
     })
-    public Response atualizar(@PathParam("id") Long id, @Valid ProdutoEmprestimoRequest request) {
-        ProdutoEmprestimo produto = produtoEmprestimoService.atualizar(id, request);
-        return Response.ok(produto).build();
+    public Response atualizar(@PathParam("id") Long id,
+                              @Parameter(description = "ETag obtida na consulta do produto")
+                              @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+                              @Valid ProdutoEmprestimoRequest request) {
+        ProdutoEmprestimo produto = produtoEmprestimoService.atualizar(id, request,
+            RespostaCondicional.versaoEsperada(id, ifMatch));
+        return RespostaCondicional.ok(produto, RespostaCondicional.etag(produto),
+            RespostaCondicional.ultimaModificacao(produto.atualizadoEm));
     }
 
     @DELETE
     @Path("/{id}")
+    @RunOnVirtualThread
     @Operation(
         summary = "Remover produto",
         description = "Remove um produto do sistema"
@@ -135,10 +221,12 @@ public class ProdutoEmprestimoController {
 
     @POST
     @Path("/simulacao")
+    @RunOnVirtualThread
     @Operation(
         summary = "Simular empréstimo",
         description = "Simula um empréstimo baseado no produto e parâmetros fornecidos, " +
-                     "retornando o detalhamento mês a mês com cálculo de juros"
+                     "retornando o detalhamento mês a mês com cálculo de juros. Com mesInicial ou mesFinal, " +
+                     "o detalhamento traz apenas essa janela de meses"
     )
     @APIResponses({
         @APIResponse(
@@ -155,8 +243,211 @@ public class ProdutoEmprestimoController {
             description = "Dados inválidos fornecidos"
         )
     })
-    public Response simularEmprestimo(@Valid SimulacaoEmprestimoRequest request) {
-        SimulacaoEmprestimoResponse simulacao = produtoEmprestimoService.simularEmprestimo(request);
+    public Response simularEmprestimo(
+            @Parameter(description = "Primeiro mês do detalhamento; se omitido, o mês 1")
+            @QueryParam("mesInicial") Integer mesInicial,
+            @Parameter(description = "Último mês do detalhamento; se omitido, o fim do prazo")
+            @QueryParam("mesFinal") Integer mesFinal,
+            @Valid SimulacaoEmprestimoRequest request) {
+        SimulacaoEmprestimoResponse simulacao = produtoEmprestimoService.simularEmprestimo(request, mesInicial, mesFinal);
         return Response.ok(simulacao).build();
     }
+
+    @POST
+    @Path("/simulacao/resumo")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Simular empréstimo (resumo)",
+        description = "Simula um empréstimo retornando apenas parcela, taxa efetiva mensal e valor total, " +
+                     "sem o detalhamento mês a mês"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Simulação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Produto não encontrado"
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos fornecidos"
+        )
+    })
+    public Response simularResumo(@Valid SimulacaoEmprestimoRequest request) {
+        SimulacaoResumoResponse resumo = produtoEmprestimoService.simularResumo(request);
+        return Response.ok(resumo).build();
+    }
+
+    @POST
+    @Path("/simulacao/valor-maximo")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Calcular valor máximo",
+        description = "Calcula o maior valor que pode ser solicitado com a parcela desejada no prazo informado, " +
+                     "pelo sistema Price, retornando o resumo da simulação desse valor"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Valor máximo calculado com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Produto não encontrado"
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos, prazo acima do máximo do produto ou parcela insuficiente"
+        )
+    })
+    public Response calcularValorMaximo(@Valid ValorMaximoRequest request) {
+        return Response.ok(produtoEmprestimoService.calcularValorMaximo(request)).build();
+    }
+
+    @POST
+    @Path("/simulacao/prazo-minimo")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Calcular prazo mínimo",
+        description = "Calcula o menor prazo, até o prazo máximo do produto, em que o valor solicitado cabe na " +
+                     "parcela desejada, pelo sistema Price, retornando o resumo da simulação nesse prazo"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Prazo mínimo calculado com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Produto não encontrado"
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou parcela que não cabe em nenhum prazo do produto"
+        )
+    })
+    public Response calcularPrazoMinimo(@Valid PrazoMinimoRequest request) {
+        return Response.ok(produtoEmprestimoService.calcularPrazoMinimo(request)).build();
+    }
+
+    @POST
+    @Path("/simulacao/meses")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Simular meses do cronograma",
+        description = "Calcula parcela, juros, amortização e saldo apenas dos meses de mesInicial a mesFinal, " +
+                     "com os mesmos valores do detalhamento completo e sem gerar os meses anteriores"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Meses calculados com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoEmprestimoResponse.DetalhamentoMensal.class))
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Produto não encontrado"
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou intervalo fora do prazo"
+        )
+    })
+    public Response simularIntervalo(
+            @Parameter(description = "Primeiro mês retornado (a partir de 1)")
+            @QueryParam("mesInicial") Integer mesInicial,
+            @Parameter(description = "Último mês retornado; se omitido, apenas o mês inicial")
+            @QueryParam("mesFinal") Integer mesFinal,
+            @Valid SimulacaoEmprestimoRequest request) {
+        return Response.ok(produtoEmprestimoService.simularIntervalo(request, mesInicial, mesFinal)).build();
+    }
+
+    @POST
+    @Path("/simulacao/detalhamento")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Blocking
+    @Operation(
+        summary = "Simular empréstimo em streaming",
+        description = "Simula um empréstimo e transmite o detalhamento mês a mês em NDJSON, " +
+                     "um objeto por linha, à medida que cada mês é calculado"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Detalhamento mensal transmitido com sucesso",
+            content = @Content(
+                mediaType = RestMediaType.APPLICATION_NDJSON,
+                schema = @Schema(implementation = SimulacaoEmprestimoResponse.DetalhamentoMensal.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Produto não encontrado"
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos fornecidos"
+        )
+    })
+    public Multi<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(@Valid SimulacaoEmprestimoRequest request) {
+        return Multi.createFrom().iterable(produtoEmprestimoService.simularDetalhamentoMensal(request));
+    }
+
+    @POST
+    @Path("/simulacao/comparacao")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Comparar produtos",
+        description = "Simula o mesmo valor e prazo em todos os produtos cujo prazo máximo comporta o prazo pedido, " +
+                     "retornando os resumos do menor para o maior custo total"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Comparação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou limite não positivo"
+        )
+    })
+    public Response compararProdutos(
+            @Parameter(description = "Quantidade máxima de produtos retornados, dos mais baratos; se omitido, todos")
+            @QueryParam("limite") Integer limite,
+            @Valid ComparacaoProdutosRequest request) {
+        return Response.ok(produtoEmprestimoService.compararProdutos(request, limite)).build();
+    }
+
+    @POST
+    @Path("/simulacao/lote")
+    @RunOnVirtualThread
+    @Operation(
+        summary = "Simular empréstimos em lote",
+        description = "Simula uma lista de empréstimos em paralelo, retornando os resultados na ordem " +
+                     "das requisições. Cada item traz a própria simulação ou o erro que a impediu"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lote processado; verifique o campo erro de cada item",
+            content = @Content(schema = @Schema(implementation = SimulacaoLoteItemResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Lote vazio, ausente ou com mais de 1000 itens"
+        )
+    })
+    public Response simularLote(
+            @NotEmpty(message = "Lote de simulações é obrigatório")
+            @Size(max = 1000, message = "Lote de simulações deve ter no máximo 1000 itens") List<SimulacaoEmprestimoRequest> requests) {
+        List<SimulacaoLoteItemResponse> resultados = produtoEmprestimoService.simularLote(requests);
+        return Response.ok(resultados).build();
+    }
 }
@@ -0,0 +1,313 @@
+package com.caixa.controller;
+
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.service.ProdutoEmprestimoReativoService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Mesma API do {@link ProdutoEmprestimoController}, com respostas em {@link Uni} executadas
+ * sem bloquear o event loop. Incluído no build apenas com {@code caixa.api.modo=reativo};
+ * nesse caso o controller bloqueante fica de fora.
+ */
+@Path("/api/produtos")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Produtos de Empréstimo", description = "Operações para gerenciar produtos de empréstimo")
+@IfBuildProperty(name = "caixa.api.modo", stringValue = "reativo", enableIfMissing = false)
+public class ProdutoEmprestimoReativoController {
+
+    @Inject
+    ProdutoEmprestimoReativoService produtoEmprestimoReativoService;
+
+    @GET
+    @Operation(summary = "Listar todos os produtos", description = "Retorna uma lista com todos os produtos de empréstimo cadastrados")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lista de produtos retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+        ),
+        @APIResponse(responseCode = "304", description = "Catálogo não modificado desde a versão informada")
+    })
+    public Uni<Response> listarTodos(@Context Request request) {
+        return produtoEmprestimoReativoService.obterVersaoCatalogo().flatMap(versao -> {
+            EntityTag etag = RespostaCondicional.etag(versao);
+            Date ultimaModificacao = RespostaCondicional.ultimaModificacao(versao.ultimaAtualizacao());
+            Response naoModificado = RespostaCondicional.naoModificado(request, etag, ultimaModificacao);
+            if (naoModificado != null) {
+                return Uni.createFrom().item(naoModificado);
+            }
+            return produtoEmprestimoReativoService.listarTodos()
+                .map(produtos -> RespostaCondicional.ok(produtos, etag, ultimaModificacao));
+        });
+    }
+
+    @GET
+    @Path("/pagina")
+    @Operation(summary = "Listar produtos paginados", description = "Retorna uma página de produtos com id, nome e taxa")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Página de produtos retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimoPaginaResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Ordenação, direção, cursor ou tamanho inválidos")
+    })
+    public Uni<Response> listarPagina(
+            @QueryParam("ordenarPor") @DefaultValue("id") String ordenarPor,
+            @QueryParam("direcao") @DefaultValue("asc") String direcao,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("tamanho") @DefaultValue("20")
+            @Min(value = 1, message = "Tamanho da página deve ser ao menos 1")
+            @Max(value = 100, message = "Tamanho da página deve ser no máximo 100") int tamanho) {
+        return produtoEmprestimoReativoService.listarPagina(ordenarPor, direcao, cursor, tamanho)
+            .map(pagina -> Response.ok(pagina).build());
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Buscar produto por ID", description = "Retorna um produto específico baseado no ID fornecido")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Produto encontrado com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+        ),
+        @APIResponse(responseCode = "304", description = "Produto não modificado desde a versão informada"),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado")
+    })
+    public Uni<Response> buscarPorId(@PathParam("id") Long id, @Context Request request) {
+        return produtoEmprestimoReativoService.buscarPorId(id)
+            .map(produto -> RespostaCondicional.responder(request, RespostaCondicional.etag(produto),
+                RespostaCondicional.ultimaModificacao(produto.atualizadoEm), () -> produto));
+    }
+
+    @POST
+    @Operation(summary = "Criar novo produto", description = "Cria um novo produto de empréstimo com as informações fornecidas")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "201",
+            description = "Produto criado com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public Uni<Response> criar(@Valid ProdutoEmprestimoRequest request) {
+        return produtoEmprestimoReativoService.criar(request)
+            .map(produto -> Response.status(Response.Status.CREATED).entity(produto).build());
+    }
+
+    @PUT
+    @Path("/{id}")
+    @Operation(summary = "Atualizar produto", description = "Atualiza um produto existente com as novas informações fornecidas")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Produto atualizado com sucesso",
+            content = @Content(schema = @Schema(implementation = ProdutoEmprestimo.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos fornecidos"),
+        @APIResponse(responseCode = "412", description = "Produto alterado por outra requisição desde a versão informada em If-Match")
+    })
+    public Uni<Response> atualizar(@PathParam("id") Long id, @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+                                   @Valid ProdutoEmprestimoRequest request) {
+        Long versaoEsperada = RespostaCondicional.versaoEsperada(id, ifMatch);
+        return produtoEmprestimoReativoService.atualizar(id, request, versaoEsperada)
+            .map(produto -> RespostaCondicional.ok(produto, RespostaCondicional.etag(produto),
+                RespostaCondicional.ultimaModificacao(produto.atualizadoEm)));
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(summary = "Remover produto", description = "Remove um produto do sistema")
+    @APIResponses({
+        @APIResponse(responseCode = "204", description = "Produto removido com sucesso"),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado")
+    })
+    public Uni<Response> remover(@PathParam("id") Long id) {
+        return produtoEmprestimoReativoService.remover(id)
+            .map(ignorado -> Response.noContent().build());
+    }
+
+    @POST
+    @Path("/simulacao")
+    @Operation(summary = "Simular empréstimo",
+               description = "Simula um empréstimo retornando o detalhamento mês a mês, opcionalmente restrito a uma janela de meses")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Simulação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoEmprestimoResponse.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public Uni<Response> simularEmprestimo(@QueryParam("mesInicial") Integer mesInicial,
+                                           @QueryParam("mesFinal") Integer mesFinal,
+                                           @Valid SimulacaoEmprestimoRequest request) {
+        return produtoEmprestimoReativoService.simularEmprestimo(request, mesInicial, mesFinal)
+            .map(simulacao -> Response.ok(simulacao).build());
+    }
+
+    @POST
+    @Path("/simulacao/resumo")
+    @Operation(summary = "Simular empréstimo (resumo)", description = "Simula um empréstimo retornando apenas parcela, taxa e total")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Simulação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public Uni<Response> simularResumo(@Valid SimulacaoEmprestimoRequest request) {
+        return produtoEmprestimoReativoService.simularResumo(request)
+            .map(resumo -> Response.ok(resumo).build());
+    }
+
+    @POST
+    @Path("/simulacao/valor-maximo")
+    @Operation(summary = "Calcular valor máximo", description = "Calcula o maior valor que cabe na parcela desejada no prazo informado")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Valor máximo calculado com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos ou sem solução no prazo do produto")
+    })
+    public Uni<Response> calcularValorMaximo(@Valid ValorMaximoRequest request) {
+        return produtoEmprestimoReativoService.calcularValorMaximo(request)
+            .map(resumo -> Response.ok(resumo).build());
+    }
+
+    @POST
+    @Path("/simulacao/prazo-minimo")
+    @Operation(summary = "Calcular prazo mínimo", description = "Calcula o menor prazo em que o valor solicitado cabe na parcela desejada")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Prazo mínimo calculado com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos ou sem solução no prazo do produto")
+    })
+    public Uni<Response> calcularPrazoMinimo(@Valid PrazoMinimoRequest request) {
+        return produtoEmprestimoReativoService.calcularPrazoMinimo(request)
+            .map(resumo -> Response.ok(resumo).build());
+    }
+
+    @POST
+    @Path("/simulacao/meses")
+    @Operation(summary = "Simular meses do cronograma", description = "Calcula apenas os meses de mesInicial a mesFinal do cronograma")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Meses calculados com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoEmprestimoResponse.DetalhamentoMensal.class))
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos ou intervalo fora do prazo")
+    })
+    public Uni<Response> simularIntervalo(@QueryParam("mesInicial") Integer mesInicial,
+                                          @QueryParam("mesFinal") Integer mesFinal,
+                                          @Valid SimulacaoEmprestimoRequest request) {
+        return produtoEmprestimoReativoService.simularIntervalo(request, mesInicial, mesFinal)
+            .map(meses -> Response.ok(meses).build());
+    }
+
+    @POST
+    @Path("/simulacao/detalhamento")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Simular empréstimo em streaming", description = "Transmite o detalhamento mês a mês em NDJSON")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Detalhamento mensal transmitido com sucesso",
+            content = @Content(
+                mediaType = RestMediaType.APPLICATION_NDJSON,
+                schema = @Schema(implementation = SimulacaoEmprestimoResponse.DetalhamentoMensal.class)
+            )
+        ),
+        @APIResponse(responseCode = "404", description = "Produto não encontrado"),
+        @APIResponse(responseCode = "400", description = "Dados inválidos fornecidos")
+    })
+    public Multi<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(@Valid SimulacaoEmprestimoRequest request) {
+        return produtoEmprestimoReativoService.simularDetalhamentoMensal(request);
+    }
+
+    @POST
+    @Path("/simulacao/comparacao")
+    @Operation(summary = "Comparar produtos", description = "Simula o mesmo valor e prazo em todos os produtos elegíveis, do menor ao maior custo total")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Comparação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = SimulacaoResumoResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Dados inválidos ou limite não positivo")
+    })
+    public Uni<Response> compararProdutos(@QueryParam("limite") Integer limite,
+                                          @Valid ComparacaoProdutosRequest request) {
+        return produtoEmprestimoReativoService.compararProdutos(request, limite)
+            .map(resumos -> Response.ok(resumos).build());
+    }
+
+    @POST
+    @Path("/simulacao/lote")
+    @Operation(summary = "Simular empréstimos em lote", description = "Simula uma lista de empréstimos em paralelo")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lote processado; verifique o campo erro de cada item",
+            content = @Content(schema = @Schema(implementation = SimulacaoLoteItemResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Lote vazio, ausente ou com mais de 1000 itens")
+    })
+    public Uni<Response> simularLote(
+            @NotEmpty(message = "Lote de simulações é obrigatório")
+            @Size(max = 1000, message = "Lote de simulações deve ter no máximo 1000 itens") List<SimulacaoEmprestimoRequest> requests) {
+        return produtoEmprestimoReativoService.simularLote(requests)
+            .map(resultados -> Response.ok(resultados).build());
+    }
+}
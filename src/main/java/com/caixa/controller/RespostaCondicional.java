@@ -0,0 +1,102 @@
+package com.caixa.controller;
+
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.VersaoCatalogo;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.function.Supplier;
+
+/**
+ * Respostas condicionais dos endpoints de consulta do catálogo. ETag e Last-Modified são
+ * derivados da versão dos produtos, e uma requisição cujo If-None-Match (ou
+ * If-Modified-Since) ainda é válido recebe 304 sem que o corpo seja montado.
+ */
+final class RespostaCondicional {
+
+    private static final String PREFIXO_PRODUTO = "produto-";
+
+    private RespostaCondicional() {
+    }
+
+    static EntityTag etag(ProdutoEmprestimo produto) {
+        return new EntityTag(PREFIXO_PRODUTO + produto.id + "-" + produto.versao);
+    }
+
+    /**
+     * Extrai do If-Match a versão do produto em que o cliente baseou a alteração. Sem o
+     * cabeçalho, ou com {@code *}, retorna null; um If-Match que não contém nenhuma ETag
+     * forte deste produto nunca pode corresponder, e resulta em 412.
+     */
+    static Long versaoEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String inicio = "\"" + PREFIXO_PRODUTO + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String valor = tag.trim();
+            if (valor.length() > inicio.length() && valor.startsWith(inicio) && valor.endsWith("\"")) {
+                try {
+                    return Long.valueOf(valor.substring(inicio.length(), valor.length() - 1));
+                } catch (NumberFormatException e) {
+                    // Não é uma ETag gerada por esta API; segue para a próxima
+                }
+            }
+        }
+        throw new ClientErrorException("If-Match não corresponde a nenhuma versão do produto " + id,
+            Response.Status.PRECONDITION_FAILED);
+    }
+
+    static EntityTag etag(VersaoCatalogo versao) {
+        return new EntityTag("catalogo-" + versao.resumo());
+    }
+
+    /**
+     * Last-Modified tem precisão de segundos, então a data é truncada para que
+     * If-Modified-Since possa ser comparado com ela
+     */
+    static Date ultimaModificacao(Instant atualizadoEm) {
+        return atualizadoEm == null ? null : Date.from(atualizadoEm.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Retorna 304 quando as pré-condições da requisição indicam que o cliente já tem a
+     * representação atual; caso contrário, 200 com o corpo e os cabeçalhos de validação
+     */
+    static Response responder(Request request, EntityTag etag, Date ultimaModificacao, Supplier<?> corpo) {
+        Response naoModificado = naoModificado(request, etag, ultimaModificacao);
+        return naoModificado != null ? naoModificado : ok(corpo.get(), etag, ultimaModificacao);
+    }
+
+    /**
+     * Resposta 304 quando If-None-Match ou If-Modified-Since ainda são válidos, ou null
+     */
+    static Response naoModificado(Request request, EntityTag etag, Date ultimaModificacao) {
+        Response.ResponseBuilder naoModificado = ultimaModificacao == null
+            ? request.evaluatePreconditions(etag)
+            : request.evaluatePreconditions(ultimaModificacao, etag);
+        if (naoModificado == null) {
+            return null;
+        }
+        return naoModificado.tag(etag).lastModified(ultimaModificacao).cacheControl(revalidarSempre()).build();
+    }
+
+    static Response ok(Object corpo, EntityTag etag, Date ultimaModificacao) {
+        return Response.ok(corpo).tag(etag).lastModified(ultimaModificacao).cacheControl(revalidarSempre()).build();
+    }
+
+    /**
+     * Permite que o cliente guarde a resposta, mas exige revalidação a cada uso
+     */
+    private static CacheControl revalidarSempre() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+}
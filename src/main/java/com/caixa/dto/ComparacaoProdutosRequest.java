@@ -0,0 +1,64 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+
+import com.caixa.model.SistemaAmortizacao;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Valor e prazo simulados em todos os produtos que aceitam o prazo, para comparação
+ */
+public class ComparacaoProdutosRequest {
+
+    @NotNull(message = "Valor solicitado é obrigatório")
+    @Positive(message = "Valor solicitado deve ser positivo")
+    public BigDecimal valorSolicitado;
+
+    @NotNull(message = "Prazo em meses é obrigatório")
+    @Positive(message = "Prazo em meses deve ser positivo")
+    public Integer prazoMeses;
+
+    /**
+     * Sistema de amortização da comparação; Price quando não informado
+     */
+    public SistemaAmortizacao sistemaAmortizacao = SistemaAmortizacao.PRICE;
+
+    public ComparacaoProdutosRequest() {
+    }
+
+    public ComparacaoProdutosRequest(BigDecimal valorSolicitado, Integer prazoMeses) {
+        this.valorSolicitado = valorSolicitado;
+        this.prazoMeses = prazoMeses;
+    }
+
+    public ComparacaoProdutosRequest(BigDecimal valorSolicitado, Integer prazoMeses, SistemaAmortizacao sistemaAmortizacao) {
+        this(valorSolicitado, prazoMeses);
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
+
+    public BigDecimal getValorSolicitado() {
+        return valorSolicitado;
+    }
+
+    public void setValorSolicitado(BigDecimal valorSolicitado) {
+        this.valorSolicitado = valorSolicitado;
+    }
+
+    public Integer getPrazoMeses() {
+        return prazoMeses;
+    }
+
+    public void setPrazoMeses(Integer prazoMeses) {
+        this.prazoMeses = prazoMeses;
+    }
+
+    public SistemaAmortizacao getSistemaAmortizacao() {
+        return sistemaAmortizacao;
+    }
+
+    public void setSistemaAmortizacao(SistemaAmortizacao sistemaAmortizacao) {
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
+}
@@ -0,0 +1,94 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Cronograma de amortização em colunas: parcela, juros, amortização e saldo de cada mês
+ * ficam em vetores paralelos de centavos, em vez de um objeto com quatro BigDecimal por mês.
+ * Como lista, materializa o {@link SimulacaoEmprestimoResponse.DetalhamentoMensal} do mês
+ * apenas quando ele é acessado; na serialização JSON é escrito direto dos vetores.
+ */
+@JsonSerialize(using = CronogramaAmortizacaoSerializer.class)
+public final class CronogramaAmortizacao extends AbstractList<SimulacaoEmprestimoResponse.DetalhamentoMensal>
+        implements RandomAccess {
+
+    private static final int ESCALA = 2;
+
+    private final long[] valoresParcela;
+    private final long[] juros;
+    private final long[] amortizacoes;
+    private final long[] saldosDevedores;
+    private final int inicioSaldoZerado;
+    private final int primeiroMes;
+
+    /**
+     * @param inicioSaldoZerado índice do primeiro mês em que o saldo ficaria negativo e foi
+     *                          zerado; desse mês em diante o saldo é {@link BigDecimal#ZERO}
+     *                          (escala 0), como no cálculo em BigDecimal. Use o tamanho do
+     *                          cronograma quando isso não ocorre.
+     */
+    public CronogramaAmortizacao(long[] valoresParcela, long[] juros, long[] amortizacoes,
+                                 long[] saldosDevedores, int inicioSaldoZerado) {
+        this(valoresParcela, juros, amortizacoes, saldosDevedores, inicioSaldoZerado, 1);
+    }
+
+    /**
+     * Cria um trecho do cronograma cujo primeiro elemento é o mês {@code primeiroMes}
+     */
+    public CronogramaAmortizacao(long[] valoresParcela, long[] juros, long[] amortizacoes,
+                                 long[] saldosDevedores, int inicioSaldoZerado, int primeiroMes) {
+        this.valoresParcela = valoresParcela;
+        this.juros = juros;
+        this.amortizacoes = amortizacoes;
+        this.saldosDevedores = saldosDevedores;
+        this.inicioSaldoZerado = inicioSaldoZerado;
+        this.primeiroMes = primeiroMes;
+    }
+
+    @Override
+    public int size() {
+        return valoresParcela.length;
+    }
+
+    @Override
+    public SimulacaoEmprestimoResponse.DetalhamentoMensal get(int indice) {
+        return new SimulacaoEmprestimoResponse.DetalhamentoMensal(
+            getMes(indice),
+            BigDecimal.valueOf(valoresParcela[indice], ESCALA),
+            BigDecimal.valueOf(juros[indice], ESCALA),
+            BigDecimal.valueOf(amortizacoes[indice], ESCALA),
+            isSaldoZerado(indice) ? BigDecimal.ZERO : BigDecimal.valueOf(saldosDevedores[indice], ESCALA)
+        );
+    }
+
+    public int getMes(int indice) {
+        return primeiroMes + indice;
+    }
+
+    public long getValorParcelaEmCentavos(int indice) {
+        return valoresParcela[indice];
+    }
+
+    public long getJurosEmCentavos(int indice) {
+        return juros[indice];
+    }
+
+    public long getAmortizacaoEmCentavos(int indice) {
+        return amortizacoes[indice];
+    }
+
+    public long getSaldoDevedorEmCentavos(int indice) {
+        return saldosDevedores[indice];
+    }
+
+    /**
+     * Indica se o saldo do mês foi zerado por ter ficado negativo
+     */
+    public boolean isSaldoZerado(int indice) {
+        return indice >= inicioSaldoZerado;
+    }
+}
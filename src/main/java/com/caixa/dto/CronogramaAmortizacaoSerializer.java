@@ -0,0 +1,78 @@
+package com.caixa.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Escreve o {@link CronogramaAmortizacao} com o mesmo formato JSON de uma lista de
+ * {@link SimulacaoEmprestimoResponse.DetalhamentoMensal}, lendo os centavos direto dos
+ * vetores e formatando-os em um buffer reaproveitado, sem criar objetos por mês.
+ */
+public class CronogramaAmortizacaoSerializer extends StdSerializer<CronogramaAmortizacao> {
+
+    // Sinal, 19 dígitos de um long e o ponto decimal
+    private static final int TAMANHO_BUFFER = 21;
+
+    public CronogramaAmortizacaoSerializer() {
+        super(CronogramaAmortizacao.class);
+    }
+
+    @Override
+    public void serialize(CronogramaAmortizacao cronograma, JsonGenerator gerador, SerializerProvider provider)
+            throws IOException {
+        char[] buffer = new char[TAMANHO_BUFFER];
+        int meses = cronograma.size();
+
+        gerador.writeStartArray(cronograma, meses);
+        for (int i = 0; i < meses; i++) {
+            gerador.writeStartObject();
+            gerador.writeNumberField("mes", cronograma.getMes(i));
+            escreverCentavos(gerador, "valorParcela", cronograma.getValorParcelaEmCentavos(i), buffer);
+            escreverCentavos(gerador, "juros", cronograma.getJurosEmCentavos(i), buffer);
+            escreverCentavos(gerador, "amortizacao", cronograma.getAmortizacaoEmCentavos(i), buffer);
+            if (cronograma.isSaldoZerado(i)) {
+                // BigDecimal.ZERO, escrito como 0
+                gerador.writeNumberField("saldoDevedor", 0);
+            } else {
+                escreverCentavos(gerador, "saldoDevedor", cronograma.getSaldoDevedorEmCentavos(i), buffer);
+            }
+            gerador.writeEndObject();
+        }
+        gerador.writeEndArray();
+    }
+
+    private static void escreverCentavos(JsonGenerator gerador, String campo, long centavos, char[] buffer)
+            throws IOException {
+        int inicio = formatarCentavos(centavos, buffer);
+        gerador.writeFieldName(campo);
+        gerador.writeNumber(buffer, inicio, buffer.length - inicio);
+    }
+
+    /**
+     * Formata o valor em centavos com duas casas decimais, como BigDecimal.toString()
+     * com escala 2, preenchendo o buffer a partir do fim. Retorna a posição inicial.
+     */
+    static int formatarCentavos(long centavos, char[] buffer) {
+        boolean negativo = centavos < 0;
+        long restante = negativo ? -centavos : centavos;
+        int posicao = buffer.length;
+
+        buffer[--posicao] = (char) ('0' + restante % 10);
+        restante /= 10;
+        buffer[--posicao] = (char) ('0' + restante % 10);
+        restante /= 10;
+        buffer[--posicao] = '.';
+        do {
+            buffer[--posicao] = (char) ('0' + restante % 10);
+            restante /= 10;
+        } while (restante > 0);
+
+        if (negativo) {
+            buffer[--posicao] = '-';
+        }
+        return posicao;
+    }
+}
@@ -0,0 +1,41 @@
+package com.caixa.dto;
+
+public class ImportacaoProdutosResponse {
+
+    public Integer quantidadeImportada;
+    public Integer lotes;
+    public Long duracaoMillis;
+
+    public ImportacaoProdutosResponse() {
+    }
+
+    public ImportacaoProdutosResponse(Integer quantidadeImportada, Integer lotes, Long duracaoMillis) {
+        this.quantidadeImportada = quantidadeImportada;
+        this.lotes = lotes;
+        this.duracaoMillis = duracaoMillis;
+    }
+
+    public Integer getQuantidadeImportada() {
+        return quantidadeImportada;
+    }
+
+    public void setQuantidadeImportada(Integer quantidadeImportada) {
+        this.quantidadeImportada = quantidadeImportada;
+    }
+
+    public Integer getLotes() {
+        return lotes;
+    }
+
+    public void setLotes(Integer lotes) {
+        this.lotes = lotes;
+    }
+
+    public Long getDuracaoMillis() {
+        return duracaoMillis;
+    }
+
+    public void setDuracaoMillis(Long duracaoMillis) {
+        this.duracaoMillis = duracaoMillis;
+    }
+}
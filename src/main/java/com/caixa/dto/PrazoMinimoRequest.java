@@ -0,0 +1,57 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Valor solicitado e parcela máxima, para calcular o menor prazo em que a parcela cabe
+ */
+public class PrazoMinimoRequest {
+
+    @NotNull(message = "ID do produto é obrigatório")
+    @Positive(message = "ID do produto deve ser positivo")
+    public Long idProduto;
+
+    @NotNull(message = "Valor solicitado é obrigatório")
+    @Positive(message = "Valor solicitado deve ser positivo")
+    public BigDecimal valorSolicitado;
+
+    @NotNull(message = "Valor da parcela é obrigatório")
+    @Positive(message = "Valor da parcela deve ser positivo")
+    public BigDecimal valorParcela;
+
+    public PrazoMinimoRequest() {
+    }
+
+    public PrazoMinimoRequest(Long idProduto, BigDecimal valorSolicitado, BigDecimal valorParcela) {
+        this.idProduto = idProduto;
+        this.valorSolicitado = valorSolicitado;
+        this.valorParcela = valorParcela;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public BigDecimal getValorSolicitado() {
+        return valorSolicitado;
+    }
+
+    public void setValorSolicitado(BigDecimal valorSolicitado) {
+        this.valorSolicitado = valorSolicitado;
+    }
+
+    public BigDecimal getValorParcela() {
+        return valorParcela;
+    }
+
+    public void setValorParcela(BigDecimal valorParcela) {
+        this.valorParcela = valorParcela;
+    }
+}
@@ -0,0 +1,47 @@
+package com.caixa.dto;
+
+import java.util.List;
+
+/**
+ * Página da listagem de produtos. Quando há mais itens, {@code proximoCursor}
+ * deve ser enviado na próxima requisição para continuar a partir do último item.
+ */
+public class ProdutoEmprestimoPaginaResponse {
+
+    public List<ProdutoEmprestimoResumo> itens;
+    public String proximoCursor;
+    public boolean possuiProxima;
+
+    public ProdutoEmprestimoPaginaResponse() {
+    }
+
+    public ProdutoEmprestimoPaginaResponse(List<ProdutoEmprestimoResumo> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.possuiProxima = proximoCursor != null;
+    }
+
+    public List<ProdutoEmprestimoResumo> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<ProdutoEmprestimoResumo> itens) {
+        this.itens = itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean isPossuiProxima() {
+        return possuiProxima;
+    }
+
+    public void setPossuiProxima(boolean possuiProxima) {
+        this.possuiProxima = possuiProxima;
+    }
+}
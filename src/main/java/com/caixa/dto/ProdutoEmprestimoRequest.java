@@ -2,15 +2,20 @@ package com.caixa.dto;
 
 import java.math.BigDecimal;
 
+import com.caixa.model.ProdutoEmprestimo;
+
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 public class ProdutoEmprestimoRequest {
 
     @NotBlank(message = "Nome do produto é obrigatório")
+    @Size(max = 100, message = "Nome do produto deve ter no máximo 100 caracteres")
     public String nome;
 
     @NotNull(message = "Taxa de juros anual é obrigatória")
@@ -20,6 +25,8 @@ public class ProdutoEmprestimoRequest {
 
     @NotNull(message = "Prazo máximo em meses é obrigatório")
     @Positive(message = "Prazo máximo em meses deve ser positivo")
+    @Max(value = ProdutoEmprestimo.PRAZO_MAXIMO_PERMITIDO,
+         message = "Prazo máximo em meses deve ser no máximo " + ProdutoEmprestimo.PRAZO_MAXIMO_PERMITIDO)
     public Integer prazoMaximoMeses;
 
     public ProdutoEmprestimoRequest() {
@@ -0,0 +1,48 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção enxuta de um produto de empréstimo usada na listagem paginada.
+ * Os nomes dos parâmetros do construtor correspondem aos campos da entidade,
+ * permitindo que o Panache monte a consulta {@code select new} diretamente.
+ */
+public class ProdutoEmprestimoResumo {
+
+    public Long id;
+    public String nome;
+    public BigDecimal taxaJurosAnual;
+
+    public ProdutoEmprestimoResumo() {
+    }
+
+    public ProdutoEmprestimoResumo(Long id, String nome, BigDecimal taxaJurosAnual) {
+        this.id = id;
+        this.nome = nome;
+        this.taxaJurosAnual = taxaJurosAnual;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public BigDecimal getTaxaJurosAnual() {
+        return taxaJurosAnual;
+    }
+
+    public void setTaxaJurosAnual(BigDecimal taxaJurosAnual) {
+        this.taxaJurosAnual = taxaJurosAnual;
+    }
+}
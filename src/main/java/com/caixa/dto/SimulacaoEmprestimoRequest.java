@@ -2,6 +2,8 @@ package com.caixa.dto;
 
 import java.math.BigDecimal;
 
+import com.caixa.model.SistemaAmortizacao;
+
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -19,6 +21,11 @@ public class SimulacaoEmprestimoRequest {
     @Positive(message = "Prazo em meses deve ser positivo")
     public Integer prazoMeses;
 
+    /**
+     * Sistema de amortização da simulação; Price quando não informado
+     */
+    public SistemaAmortizacao sistemaAmortizacao = SistemaAmortizacao.PRICE;
+
     public SimulacaoEmprestimoRequest() {
     }
 
@@ -28,6 +35,12 @@ public class SimulacaoEmprestimoRequest {
         this.prazoMeses = prazoMeses;
     }
 
+    public SimulacaoEmprestimoRequest(Long idProduto, BigDecimal valorSolicitado, Integer prazoMeses,
+                                      SistemaAmortizacao sistemaAmortizacao) {
+        this(idProduto, valorSolicitado, prazoMeses);
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
+
     public Long getIdProduto() {
         return idProduto;
     }
@@ -51,4 +64,12 @@ public class SimulacaoEmprestimoRequest {
     public void setPrazoMeses(Integer prazoMeses) {
         this.prazoMeses = prazoMeses;
     }
+
+    public SistemaAmortizacao getSistemaAmortizacao() {
+        return sistemaAmortizacao;
+    }
+
+    public void setSistemaAmortizacao(SistemaAmortizacao sistemaAmortizacao) {
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
 }
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
 
 public class SimulacaoEmprestimoResponse {
 
@@ -13,6 +14,7 @@ public class SimulacaoEmprestimoResponse {
     public BigDecimal valorSolicitado;
     public BigDecimal valorTotalComJuros;
     public List<DetalhamentoMensal> memoriaCalculo;
+    public SistemaAmortizacao sistemaAmortizacao;
 
     public SimulacaoEmprestimoResponse() {
     }
@@ -26,6 +28,15 @@ public class SimulacaoEmprestimoResponse {
         this.valorSolicitado = valorSolicitado;
         this.valorTotalComJuros = valorTotalComJuros;
         this.memoriaCalculo = memoriaCalculo;
+        this.sistemaAmortizacao = SistemaAmortizacao.PRICE;
+    }
+
+    public SimulacaoEmprestimoResponse(ProdutoEmprestimo produto, BigDecimal taxaJurosAnual,
+                                     BigDecimal taxaJurosEfetivaMensal, BigDecimal valorSolicitado,
+                                     BigDecimal valorTotalComJuros, List<DetalhamentoMensal> memoriaCalculo,
+                                     SistemaAmortizacao sistemaAmortizacao) {
+        this(produto, taxaJurosAnual, taxaJurosEfetivaMensal, valorSolicitado, valorTotalComJuros, memoriaCalculo);
+        this.sistemaAmortizacao = sistemaAmortizacao;
     }
 
     public static class DetalhamentoMensal {
@@ -135,4 +146,12 @@ public class SimulacaoEmprestimoResponse {
     public void setMemoriaCalculo(List<DetalhamentoMensal> memoriaCalculo) {
         this.memoriaCalculo = memoriaCalculo;
     }
+
+    public SistemaAmortizacao getSistemaAmortizacao() {
+        return sistemaAmortizacao;
+    }
+
+    public void setSistemaAmortizacao(SistemaAmortizacao sistemaAmortizacao) {
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
 }
@@ -0,0 +1,49 @@
+package com.caixa.dto;
+
+public class SimulacaoLoteItemResponse {
+
+    public Integer indice;
+    public SimulacaoEmprestimoResponse simulacao;
+    public String erro;
+
+    public SimulacaoLoteItemResponse() {
+    }
+
+    public SimulacaoLoteItemResponse(Integer indice, SimulacaoEmprestimoResponse simulacao, String erro) {
+        this.indice = indice;
+        this.simulacao = simulacao;
+        this.erro = erro;
+    }
+
+    public static SimulacaoLoteItemResponse sucesso(int indice, SimulacaoEmprestimoResponse simulacao) {
+        return new SimulacaoLoteItemResponse(indice, simulacao, null);
+    }
+
+    public static SimulacaoLoteItemResponse falha(int indice, String erro) {
+        return new SimulacaoLoteItemResponse(indice, null, erro);
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public SimulacaoEmprestimoResponse getSimulacao() {
+        return simulacao;
+    }
+
+    public void setSimulacao(SimulacaoEmprestimoResponse simulacao) {
+        this.simulacao = simulacao;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,130 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+
+import com.caixa.model.SistemaAmortizacao;
+
+public class SimulacaoResumoResponse {
+
+    public Long idProduto;
+    public String nomeProduto;
+    public BigDecimal taxaJurosAnual;
+    public BigDecimal taxaJurosEfetivaMensal;
+    public BigDecimal valorSolicitado;
+    public Integer prazoMeses;
+    public BigDecimal valorParcela;
+    public BigDecimal valorTotalComJuros;
+    public SistemaAmortizacao sistemaAmortizacao;
+    /**
+     * Igual a valorParcela no Price; no SAC, valorParcela é a primeira (maior) parcela
+     */
+    public BigDecimal valorUltimaParcela;
+
+    public SimulacaoResumoResponse() {
+    }
+
+    public SimulacaoResumoResponse(Long idProduto, String nomeProduto, BigDecimal taxaJurosAnual,
+                                   BigDecimal taxaJurosEfetivaMensal, BigDecimal valorSolicitado, Integer prazoMeses,
+                                   BigDecimal valorParcela, BigDecimal valorTotalComJuros) {
+        this.idProduto = idProduto;
+        this.nomeProduto = nomeProduto;
+        this.taxaJurosAnual = taxaJurosAnual;
+        this.taxaJurosEfetivaMensal = taxaJurosEfetivaMensal;
+        this.valorSolicitado = valorSolicitado;
+        this.prazoMeses = prazoMeses;
+        this.valorParcela = valorParcela;
+        this.valorTotalComJuros = valorTotalComJuros;
+        this.sistemaAmortizacao = SistemaAmortizacao.PRICE;
+        this.valorUltimaParcela = valorParcela;
+    }
+
+    public SimulacaoResumoResponse(Long idProduto, String nomeProduto, BigDecimal taxaJurosAnual,
+                                   BigDecimal taxaJurosEfetivaMensal, BigDecimal valorSolicitado, Integer prazoMeses,
+                                   BigDecimal valorParcela, BigDecimal valorTotalComJuros,
+                                   SistemaAmortizacao sistemaAmortizacao, BigDecimal valorUltimaParcela) {
+        this(idProduto, nomeProduto, taxaJurosAnual, taxaJurosEfetivaMensal, valorSolicitado, prazoMeses,
+            valorParcela, valorTotalComJuros);
+        this.sistemaAmortizacao = sistemaAmortizacao;
+        this.valorUltimaParcela = valorUltimaParcela;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public String getNomeProduto() {
+        return nomeProduto;
+    }
+
+    public void setNomeProduto(String nomeProduto) {
+        this.nomeProduto = nomeProduto;
+    }
+
+    public BigDecimal getTaxaJurosAnual() {
+        return taxaJurosAnual;
+    }
+
+    public void setTaxaJurosAnual(BigDecimal taxaJurosAnual) {
+        this.taxaJurosAnual = taxaJurosAnual;
+    }
+
+    public BigDecimal getTaxaJurosEfetivaMensal() {
+        return taxaJurosEfetivaMensal;
+    }
+
+    public void setTaxaJurosEfetivaMensal(BigDecimal taxaJurosEfetivaMensal) {
+        this.taxaJurosEfetivaMensal = taxaJurosEfetivaMensal;
+    }
+
+    public BigDecimal getValorSolicitado() {
+        return valorSolicitado;
+    }
+
+    public void setValorSolicitado(BigDecimal valorSolicitado) {
+        this.valorSolicitado = valorSolicitado;
+    }
+
+    public Integer getPrazoMeses() {
+        return prazoMeses;
+    }
+
+    public void setPrazoMeses(Integer prazoMeses) {
+        this.prazoMeses = prazoMeses;
+    }
+
+    public BigDecimal getValorParcela() {
+        return valorParcela;
+    }
+
+    public void setValorParcela(BigDecimal valorParcela) {
+        this.valorParcela = valorParcela;
+    }
+
+    public BigDecimal getValorTotalComJuros() {
+        return valorTotalComJuros;
+    }
+
+    public void setValorTotalComJuros(BigDecimal valorTotalComJuros) {
+        this.valorTotalComJuros = valorTotalComJuros;
+    }
+
+    public SistemaAmortizacao getSistemaAmortizacao() {
+        return sistemaAmortizacao;
+    }
+
+    public void setSistemaAmortizacao(SistemaAmortizacao sistemaAmortizacao) {
+        this.sistemaAmortizacao = sistemaAmortizacao;
+    }
+
+    public BigDecimal getValorUltimaParcela() {
+        return valorUltimaParcela;
+    }
+
+    public void setValorUltimaParcela(BigDecimal valorUltimaParcela) {
+        this.valorUltimaParcela = valorUltimaParcela;
+    }
+}
@@ -0,0 +1,57 @@
+package com.caixa.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Parcela desejada e prazo, para calcular o maior valor que cabe nessa parcela
+ */
+public class ValorMaximoRequest {
+
+    @NotNull(message = "ID do produto é obrigatório")
+    @Positive(message = "ID do produto deve ser positivo")
+    public Long idProduto;
+
+    @NotNull(message = "Valor da parcela é obrigatório")
+    @Positive(message = "Valor da parcela deve ser positivo")
+    public BigDecimal valorParcela;
+
+    @NotNull(message = "Prazo em meses é obrigatório")
+    @Positive(message = "Prazo em meses deve ser positivo")
+    public Integer prazoMeses;
+
+    public ValorMaximoRequest() {
+    }
+
+    public ValorMaximoRequest(Long idProduto, BigDecimal valorParcela, Integer prazoMeses) {
+        this.idProduto = idProduto;
+        this.valorParcela = valorParcela;
+        this.prazoMeses = prazoMeses;
+    }
+
+    public Long getIdProduto() {
+        return idProduto;
+    }
+
+    public void setIdProduto(Long idProduto) {
+        this.idProduto = idProduto;
+    }
+
+    public BigDecimal getValorParcela() {
+        return valorParcela;
+    }
+
+    public void setValorParcela(BigDecimal valorParcela) {
+        this.valorParcela = valorParcela;
+    }
+
+    public Integer getPrazoMeses() {
+        return prazoMeses;
+    }
+
+    public void setPrazoMeses(Integer prazoMeses) {
+        this.prazoMeses = prazoMeses;
+    }
+}
@@ -0,0 +1,23 @@
+package com.caixa.health;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+
+/**
+ * Indica que o processo está respondendo. Não depende do banco nem do catálogo:
+ * reiniciar o pod não resolve indisponibilidade de dependências, que é tratada
+ * pela prontidão.
+ */
+@Liveness
+@ApplicationScoped
+public class ApiLivenessCheck implements HealthCheck {
+
+    static final String NOME = "api";
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.up(NOME);
+    }
+}
@@ -0,0 +1,37 @@
+package com.caixa.health;
+
+import com.caixa.service.AquecimentoService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Mantém a aplicação fora do balanceador até que o catálogo e as tabelas de taxas
+ * estejam carregados. Se o aquecimento falhou, cada verificação dispara nova tentativa.
+ */
+@Readiness
+@ApplicationScoped
+public class AquecimentoReadinessCheck implements HealthCheck {
+
+    static final String NOME = "aquecimento-catalogo";
+
+    @Inject
+    AquecimentoService aquecimentoService;
+
+    @Override
+    public HealthCheckResponse call() {
+        if (aquecimentoService.isAquecido()) {
+            return HealthCheckResponse.up(NOME);
+        }
+
+        aquecimentoService.aquecerEmSegundoPlano();
+        HealthCheckResponseBuilder resposta = HealthCheckResponse.named(NOME).down();
+        if (aquecimentoService.getUltimoErro() != null) {
+            resposta.withData("erro", aquecimentoService.getUltimoErro());
+        }
+        return resposta.build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.caixa.health;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import java.sql.SQLException;
+
+/**
+ * Verifica se o datasource responde e se o pool de conexões não está esgotado.
+ * O pool é considerado saturado quando todas as conexões estão em uso e ainda
+ * há requisições aguardando uma conexão livre.
+ */
+@Readiness
+@ApplicationScoped
+public class DatasourceReadinessCheck implements HealthCheck {
+
+    static final String NOME = "datasource";
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Override
+    public HealthCheckResponse call() {
+        HealthCheckResponseBuilder resposta = HealthCheckResponse.named(NOME);
+
+        AgroalDataSourceMetrics metricas = dataSource.getMetrics();
+        int tamanhoMaximo = dataSource.getConfiguration().connectionPoolConfiguration().maxSize();
+        long ativas = metricas.activeCount();
+        long aguardando = metricas.awaitingCount();
+        resposta.withData("conexoesAtivas", ativas)
+            .withData("conexoesMaximas", tamanhoMaximo)
+            .withData("aguardandoConexao", aguardando);
+
+        if (ativas >= tamanhoMaximo && aguardando > 0) {
+            return resposta.down().withData("erro", "Pool de conexões saturado").build();
+        }
+
+        try {
+            if (!dataSource.isHealthy(false)) {
+                return resposta.down().withData("erro", "Conexão com o banco inválida").build();
+            }
+        } catch (SQLException e) {
+            return resposta.down().withData("erro", e.getMessage()).build();
+        }
+
+        return resposta.up().build();
+    }
+}
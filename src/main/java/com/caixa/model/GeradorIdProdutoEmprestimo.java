@@ -0,0 +1,46 @@
+package com.caixa.model;
+
+import java.util.Properties;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Gerador de ids de produto baseado em sequência com otimizador pooled-lo: cada chamada
+ * à sequência reserva um bloco de ids que é distribuído em memória, evitando uma ida ao
+ * banco por insert. A sequência começa acima dos ids fixos carregados pelo import.sql e o
+ * tamanho do bloco vem de {@value #PROPRIEDADE_TAMANHO_ALOCACAO}.
+ */
+public class GeradorIdProdutoEmprestimo extends SequenceStyleGenerator {
+
+    public static final String SEQUENCIA = "produto_emprestimo_seq";
+    static final String PROPRIEDADE_TAMANHO_ALOCACAO = "caixa.produtos.id.tamanho-alocacao";
+    static final int VALOR_INICIAL = 1000;
+    static final int TAMANHO_ALOCACAO_PADRAO = 50;
+
+    @Override
+    public void configure(Type type, Properties parametros, ServiceRegistry serviceRegistry) throws MappingException {
+        int tamanhoAlocacao = ConfigProvider.getConfig()
+            .getOptionalValue(PROPRIEDADE_TAMANHO_ALOCACAO, Integer.class)
+            .orElse(TAMANHO_ALOCACAO_PADRAO);
+        super.configure(type, parametrizar(parametros, tamanhoAlocacao), serviceRegistry);
+    }
+
+    /**
+     * Define nome, valor inicial, incremento e otimizador da sequência
+     */
+    static Properties parametrizar(Properties parametros, int tamanhoAlocacao) {
+        if (tamanhoAlocacao < 1) {
+            throw new MappingException(PROPRIEDADE_TAMANHO_ALOCACAO + " deve ser maior que zero: " + tamanhoAlocacao);
+        }
+        parametros.setProperty(SEQUENCE_PARAM, SEQUENCIA);
+        parametros.setProperty(INITIAL_PARAM, String.valueOf(VALOR_INICIAL));
+        parametros.setProperty(INCREMENT_PARAM, String.valueOf(tamanhoAlocacao));
+        parametros.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        return parametros;
+    }
+}
@@ -1,22 +1,51 @@
 package com.caixa.model;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
-import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
-@Table(name = "produto_emprestimo")
-public class ProdutoEmprestimo extends PanacheEntity {
+@Table(name = "produto_emprestimo", indexes = {
+    @Index(name = "idx_produto_emprestimo_nome_id", columnList = "nome, id"),
+    @Index(name = "idx_produto_emprestimo_taxa_id", columnList = "taxa_juros_anual, id")
+})
+public class ProdutoEmprestimo extends PanacheEntityBase {
+
+    /**
+     * Maior prazo aceito para um produto (35 anos). A tabela de taxas do produto guarda
+     * um fator por mês até o prazo máximo, então ele precisa ser limitado.
+     */
+    public static final int PRAZO_MAXIMO_PERMITIDO = 420;
+
+    /**
+     * Id gerado pela sequência produto_emprestimo_seq em blocos (pooled-lo), a partir de 1000
+     */
+    @Id
+    @GeneratedValue(generator = GeradorIdProdutoEmprestimo.SEQUENCIA)
+    @GenericGenerator(name = GeradorIdProdutoEmprestimo.SEQUENCIA, type = GeradorIdProdutoEmprestimo.class)
+    public Long id;
 
     @NotBlank(message = "Nome do produto é obrigatório")
+    @Size(max = 100, message = "Nome do produto deve ter no máximo 100 caracteres")
     @Column(name = "nome", nullable = false, length = 100)
     public String nome;
 
@@ -28,9 +57,20 @@ public class ProdutoEmprestimo extends PanacheEntity {
 
     @NotNull(message = "Prazo máximo em meses é obrigatório")
     @Positive(message = "Prazo máximo em meses deve ser positivo")
+    @Max(value = PRAZO_MAXIMO_PERMITIDO, message = "Prazo máximo em meses deve ser no máximo " + PRAZO_MAXIMO_PERMITIDO)
     @Column(name = "prazo_maximo_meses", nullable = false)
     public Integer prazoMaximoMeses;
 
+    /**
+     * Versão para controle de concorrência otimista, incrementada a cada atualização
+     */
+    @Version
+    @Column(name = "versao", nullable = false)
+    public Long versao;
+
+    @Column(name = "atualizado_em", nullable = false)
+    public Instant atualizadoEm;
+
     public ProdutoEmprestimo() {
     }
 
@@ -40,6 +80,12 @@ public class ProdutoEmprestimo extends PanacheEntity {
         this.prazoMaximoMeses = prazoMaximoMeses;
     }
 
+    @PrePersist
+    @PreUpdate
+    void registrarAtualizacao() {
+        atualizadoEm = Instant.now();
+    }
+
     @Override
     public String toString() {
         return "ProdutoEmprestimo{" +
@@ -47,6 +93,7 @@ public class ProdutoEmprestimo extends PanacheEntity {
                 ", nome='" + nome + '\'' +
                 ", taxaJurosAnual=" + taxaJurosAnual +
                 ", prazoMaximoMeses=" + prazoMaximoMeses +
+                ", versao=" + versao +
                 '}';
     }
 }
@@ -0,0 +1,28 @@
+package com.caixa.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Cópia imutável de um produto de empréstimo, mantida no catálogo em memória
+ */
+public record ProdutoEmprestimoSnapshot(Long id, String nome, BigDecimal taxaJurosAnual, Integer prazoMaximoMeses,
+                                        Long versao, Instant atualizadoEm) {
+
+    public static ProdutoEmprestimoSnapshot de(ProdutoEmprestimo produto) {
+        return new ProdutoEmprestimoSnapshot(produto.id, produto.nome, produto.taxaJurosAnual, produto.prazoMaximoMeses,
+            produto.versao, produto.atualizadoEm);
+    }
+
+    /**
+     * Cria uma entidade desanexada com os dados do snapshot, que pode ser alterada
+     * livremente sem afetar o catálogo
+     */
+    public ProdutoEmprestimo paraEntidade() {
+        ProdutoEmprestimo produto = new ProdutoEmprestimo(nome, taxaJurosAnual, prazoMaximoMeses);
+        produto.id = id;
+        produto.versao = versao;
+        produto.atualizadoEm = atualizadoEm;
+        return produto;
+    }
+}
@@ -0,0 +1,17 @@
+package com.caixa.model;
+
+/**
+ * Sistemas de amortização disponíveis para a simulação de empréstimo
+ */
+public enum SistemaAmortizacao {
+
+    /**
+     * Sistema Francês: parcelas fixas, com juros decrescentes e amortização crescente
+     */
+    PRICE,
+
+    /**
+     * Sistema de Amortização Constante: amortização fixa e parcelas decrescentes
+     */
+    SAC
+}
@@ -0,0 +1,41 @@
+package com.caixa.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Campos pelos quais a listagem paginada de produtos pode ser ordenada.
+ * O ID é sempre usado como critério de desempate, garantindo uma ordem total
+ * para a paginação por chave.
+ */
+public enum OrdenacaoProduto {
+
+    ID("id", "id"),
+    NOME("nome", "nome"),
+    TAXA("taxa", "taxaJurosAnual");
+
+    private final String parametro;
+    private final String campo;
+
+    OrdenacaoProduto(String parametro, String campo) {
+        this.parametro = parametro;
+        this.campo = campo;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    /**
+     * Resolve a ordenação a partir do valor recebido na query string
+     */
+    public static Optional<OrdenacaoProduto> doParametro(String parametro) {
+        return Arrays.stream(values())
+            .filter(ordenacao -> ordenacao.parametro.equalsIgnoreCase(parametro))
+            .findFirst();
+    }
+}
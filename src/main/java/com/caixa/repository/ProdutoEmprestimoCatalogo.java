@@ -0,0 +1,135 @@
+package com.caixa.repository;
+
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.ProdutoEmprestimoSnapshot;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * Catálogo em memória dos produtos de empréstimo, posicionado à frente do repositório.
+ * O catálogo é carregado do banco no primeiro acesso e, a partir daí, as leituras são
+ * servidas apenas pelo mapa, sem consulta nem transação. As escritas do serviço
+ * mantêm o catálogo atualizado através de registrar/remover.
+ */
+@ApplicationScoped
+public class ProdutoEmprestimoCatalogo {
+
+    @Inject
+    ProdutoEmprestimoRepository produtoEmprestimoRepository;
+
+    private final ConcurrentNavigableMap<Long, ProdutoEmprestimoSnapshot> produtos = new ConcurrentSkipListMap<>();
+    private volatile boolean carregado;
+    private volatile VersaoCatalogo versao;
+
+    /**
+     * Lista todos os produtos do catálogo, ordenados por ID
+     */
+    public List<ProdutoEmprestimo> listarTodos() {
+        garantirCarregado();
+        return produtos.values().stream()
+            .map(ProdutoEmprestimoSnapshot::paraEntidade)
+            .toList();
+    }
+
+    /**
+     * Busca um produto do catálogo por ID
+     */
+    public Optional<ProdutoEmprestimo> buscarPorId(Long id) {
+        garantirCarregado();
+        ProdutoEmprestimoSnapshot snapshot = id == null ? null : produtos.get(id);
+        return Optional.ofNullable(snapshot).map(ProdutoEmprestimoSnapshot::paraEntidade);
+    }
+
+    /**
+     * Busca de uma só vez os produtos com os IDs informados. IDs inexistentes
+     * ficam de fora do mapa retornado.
+     */
+    public Map<Long, ProdutoEmprestimo> buscarPorIds(Collection<Long> ids) {
+        garantirCarregado();
+        Map<Long, ProdutoEmprestimo> encontrados = new HashMap<>();
+        for (Long id : ids) {
+            ProdutoEmprestimoSnapshot snapshot = id == null ? null : produtos.get(id);
+            if (snapshot != null) {
+                encontrados.putIfAbsent(id, snapshot.paraEntidade());
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Versão atual do catálogo, recalculada a cada escrita. A data da versão avança em
+     * toda escrita, inclusive remoções, e nunca retrocede.
+     */
+    public VersaoCatalogo obterVersao() {
+        garantirCarregado();
+        return versao;
+    }
+
+    /**
+     * Inclui ou substitui o produto no catálogo após uma escrita no repositório
+     */
+    public synchronized void registrar(ProdutoEmprestimo produto) {
+        if (carregado) {
+            produtos.put(produto.id, ProdutoEmprestimoSnapshot.de(produto));
+            avancarVersao(Instant.now());
+        }
+    }
+
+    /**
+     * Retira o produto do catálogo após sua remoção no repositório
+     */
+    public synchronized void remover(Long id) {
+        if (produtos.remove(id) != null) {
+            avancarVersao(Instant.now());
+        }
+    }
+
+    /**
+     * Recarrega o catálogo completo a partir do repositório. Na primeira carga a data da
+     * versão é a da última atualização dos produtos; nas seguintes ela só avança se o
+     * conteúdo mudou desde a última versão conhecida.
+     */
+    public synchronized void recarregar() {
+        List<ProdutoEmprestimo> atuais = produtoEmprestimoRepository.listAll();
+        atuais.forEach(produto -> produtos.put(produto.id, ProdutoEmprestimoSnapshot.de(produto)));
+        produtos.keySet().retainAll(atuais.stream().map(produto -> produto.id).collect(Collectors.toSet()));
+        if (versao == null) {
+            versao = VersaoCatalogo.de(produtos.values());
+        } else {
+            boolean mudou = !VersaoCatalogo.de(produtos.values()).resumo().equals(versao.resumo());
+            avancarVersao(mudou ? Instant.now() : null);
+        }
+        carregado = true;
+    }
+
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    /**
+     * Só é chamado com o catálogo carregado, quando já existe uma versão
+     */
+    private void avancarVersao(Instant modificadoEm) {
+        versao = versao.depoisDe(produtos.values(), modificadoEm);
+    }
+
+    private void garantirCarregado() {
+        if (!carregado) {
+            synchronized (this) {
+                if (!carregado) {
+                    recarregar();
+                }
+            }
+        }
+    }
+}
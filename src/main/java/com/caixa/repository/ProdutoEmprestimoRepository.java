@@ -1,17 +1,79 @@
 package com.caixa.repository;
 
+import com.caixa.dto.ProdutoEmprestimoResumo;
 import com.caixa.model.ProdutoEmprestimo;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
 @ApplicationScoped
 public class ProdutoEmprestimoRepository implements PanacheRepository<ProdutoEmprestimo> {
-    
-    // Métodos customizados podem ser adicionados aqui se necessário
-    // Por enquanto, usamos os métodos herdados do PanacheRepository:
+
+    // Além dos métodos herdados do PanacheRepository:
     // - findById(Long id)
     // - findAll()
     // - persist(Entity entity)
     // - delete(Entity entity)
     // - etc.
+
+    /**
+     * Busca uma página de produtos projetada em {@link ProdutoEmprestimoResumo}, sem carregar
+     * entidades gerenciadas. A paginação é por chave: em vez de deslocamento, a consulta
+     * continua a partir do último item da página anterior ({@code aposProduto}), usando
+     * o ID como desempate para que a ordem seja total.
+     */
+    public List<ProdutoEmprestimoResumo> buscarPagina(OrdenacaoProduto ordenacao, boolean crescente,
+                                                      ProdutoEmprestimoResumo aposProduto, int limite) {
+        Sort.Direction direcao = crescente ? Sort.Direction.Ascending : Sort.Direction.Descending;
+        Sort sort = ordenacao == OrdenacaoProduto.ID
+            ? Sort.by("id", direcao)
+            : Sort.by(ordenacao.getCampo(), direcao).and("id", direcao);
+
+        PanacheQuery<ProdutoEmprestimo> query;
+        if (aposProduto == null) {
+            query = findAll(sort);
+        } else if (ordenacao == OrdenacaoProduto.ID) {
+            query = find("id " + (crescente ? ">" : "<") + " :id", sort,
+                Parameters.with("id", aposProduto.id));
+        } else {
+            String campo = ordenacao.getCampo();
+            String operador = crescente ? ">" : "<";
+            query = find(campo + " " + operador + " :valor or (" + campo + " = :valor and id " + operador + " :id)", sort,
+                Parameters.with("valor", valorDe(ordenacao, aposProduto)).and("id", aposProduto.id));
+        }
+
+        return query.project(ProdutoEmprestimoResumo.class)
+            .range(0, limite - 1)
+            .list();
+    }
+
+    /**
+     * Atualiza os dados do produto e incrementa sua versão em uma única instrução UPDATE,
+     * sem carregar a entidade. Com {@code versaoEsperada}, a linha só é alterada se essa
+     * ainda for a versão gravada (compare-and-set). Retorna o número de linhas alteradas.
+     */
+    public int atualizarDados(Long id, String nome, BigDecimal taxaJurosAnual, Integer prazoMaximoMeses,
+                              Instant atualizadoEm, Long versaoEsperada) {
+        Parameters parametros = Parameters.with("id", id)
+            .and("nome", nome)
+            .and("taxa", taxaJurosAnual)
+            .and("prazo", prazoMaximoMeses)
+            .and("atualizadoEm", atualizadoEm);
+        String alteracao = "nome = :nome, taxaJurosAnual = :taxa, prazoMaximoMeses = :prazo, "
+            + "atualizadoEm = :atualizadoEm, versao = versao + 1 where id = :id";
+        if (versaoEsperada == null) {
+            return update(alteracao, parametros);
+        }
+        return update(alteracao + " and versao = :versao", parametros.and("versao", versaoEsperada));
+    }
+
+    private static Object valorDe(OrdenacaoProduto ordenacao, ProdutoEmprestimoResumo produto) {
+        return ordenacao == OrdenacaoProduto.NOME ? produto.nome : produto.taxaJurosAnual;
+    }
 }
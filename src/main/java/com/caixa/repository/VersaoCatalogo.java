@@ -0,0 +1,64 @@
+package com.caixa.repository;
+
+import com.caixa.model.ProdutoEmprestimoSnapshot;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Versão do catálogo como um todo: um resumo dos pares (id, versão) de todos os produtos
+ * e a data da alteração mais recente. O resumo depende apenas do conteúdo do banco, então
+ * é o mesmo entre reinícios e entre instâncias da aplicação. A data parte da última
+ * atualização dos produtos e, a cada escrita, só avança, inclusive em remoções.
+ */
+public record VersaoCatalogo(String resumo, Instant ultimaAtualizacao) {
+
+    /**
+     * Calcula a versão a partir dos produtos, que devem estar ordenados por ID
+     */
+    static VersaoCatalogo de(Collection<ProdutoEmprestimoSnapshot> produtos) {
+        MessageDigest digest = novoDigest();
+        ByteBuffer par = ByteBuffer.allocate(2 * Long.BYTES);
+        Instant ultimaAtualizacao = null;
+        for (ProdutoEmprestimoSnapshot produto : produtos) {
+            par.clear();
+            par.putLong(produto.id()).putLong(produto.versao() == null ? -1L : produto.versao());
+            digest.update(par.array());
+            if (produto.atualizadoEm() != null
+                    && (ultimaAtualizacao == null || produto.atualizadoEm().isAfter(ultimaAtualizacao))) {
+                ultimaAtualizacao = produto.atualizadoEm();
+            }
+        }
+        return new VersaoCatalogo(HexFormat.of().formatHex(digest.digest(), 0, 16), ultimaAtualizacao);
+    }
+
+    /**
+     * Calcula a versão que sucede esta após uma escrita em {@code modificadoEm}. A data
+     * resultante é a maior entre a atual, a da escrita e a dos produtos, então nunca
+     * retrocede, mesmo quando o produto removido era o mais recente.
+     */
+    VersaoCatalogo depoisDe(Collection<ProdutoEmprestimoSnapshot> produtos, Instant modificadoEm) {
+        VersaoCatalogo calculada = de(produtos);
+        Instant data = maisRecente(maisRecente(ultimaAtualizacao, modificadoEm), calculada.ultimaAtualizacao());
+        return new VersaoCatalogo(calculada.resumo(), data);
+    }
+
+    private static Instant maisRecente(Instant a, Instant b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.caixa.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.caixa.dto.CronogramaAmortizacao;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.model.SistemaAmortizacao;
+
+/**
+ * Sistema de Amortização Constante: a amortização mensal é o valor solicitado dividido
+ * pelo prazo, truncado em centavos, e a última parcela amortiza o saldo restante. Os juros
+ * de cada mês incidem sobre o saldo devedor, então as parcelas decrescem ao longo do prazo.
+ */
+final class AmortizacaoSac implements EstrategiaAmortizacao {
+
+    private static final int SCALE = 2;
+    private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    // A taxa mensal tem duas casas percentuais, ou seja, quatro casas decimais
+    private static final long DIVISOR_JUROS = 10_000L;
+    private static final long METADE_DIVISOR_JUROS = DIVISOR_JUROS / 2;
+
+    @Override
+    public SistemaAmortizacao sistema() {
+        return SistemaAmortizacao.SAC;
+    }
+
+    /**
+     * Como o saldo antes do mês k é PV - (k - 1) * A, as parcelas extremas saem direto
+     * dos saldos inicial e final. O total é a soma em centavos de somarParcelas, com os
+     * juros arredondados mês a mês, para coincidir com o do cronograma completo.
+     */
+    @Override
+    public ResumoAmortizacao resumir(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+        BigDecimal taxaMensalDecimal = taxaMensalDecimal(tabela);
+        BigDecimal amortizacao = amortizacaoMensal(valorSolicitado, prazoMeses);
+        BigDecimal ultimaAmortizacao = valorSolicitado.subtract(amortizacao.multiply(BigDecimal.valueOf(prazoMeses - 1L)));
+
+        BigDecimal primeiraParcela = (prazoMeses == 1 ? ultimaAmortizacao : amortizacao)
+            .add(juros(valorSolicitado, taxaMensalDecimal));
+        BigDecimal ultimaParcela = ultimaAmortizacao.add(juros(ultimaAmortizacao, taxaMensalDecimal));
+
+        return new ResumoAmortizacao(primeiraParcela, ultimaParcela, somarParcelas(valorSolicitado, tabela, prazoMeses));
+    }
+
+    /**
+     * Soma os juros arredondados mês a mês, como no cronograma, sem guardar os meses
+     */
+    @Override
+    public BigDecimal somarParcelas(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+        Long totalEmCentavos = somarParcelasEmCentavos(valorSolicitado, tabela.getTaxaJurosEfetivaMensal(), prazoMeses);
+        if (totalEmCentavos != null) {
+            return BigDecimal.valueOf(totalEmCentavos, SCALE);
+        }
+
+        BigDecimal total = BigDecimal.ZERO.setScale(SCALE);
+        Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = iterarCronograma(valorSolicitado, tabela, prazoMeses);
+        while (meses.hasNext()) {
+            total = total.add(meses.next().valorParcela);
+        }
+        return total;
+    }
+
+    @Override
+    public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarCronograma(
+            BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+        return gerarIntervalo(valorSolicitado, tabela, prazoMeses, 1, prazoMeses);
+    }
+
+    /**
+     * O saldo antes do mês k é exatamente PV - (k - 1) * A, então o intervalo começa
+     * direto no mês inicial, sem percorrer os anteriores
+     */
+    @Override
+    public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarIntervalo(
+            BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses, int mesInicial, int mesFinal) {
+        CronogramaAmortizacao cronograma = gerarCronogramaEmCentavos(valorSolicitado, tabela.getTaxaJurosEfetivaMensal(),
+            prazoMeses, mesInicial, mesFinal);
+        if (cronograma != null) {
+            return cronograma;
+        }
+
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> detalhamento = new ArrayList<>(mesFinal - mesInicial + 1);
+        new DetalhamentoMensalSacIterator(valorSolicitado, amortizacaoMensal(valorSolicitado, prazoMeses),
+            taxaMensalDecimal(tabela), prazoMeses, mesInicial, mesFinal).forEachRemaining(detalhamento::add);
+        return detalhamento;
+    }
+
+    @Override
+    public Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> iterarCronograma(
+            BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+        return new DetalhamentoMensalSacIterator(valorSolicitado, amortizacaoMensal(valorSolicitado, prazoMeses),
+            taxaMensalDecimal(tabela), prazoMeses, 1, prazoMeses);
+    }
+
+    /**
+     * Monta os meses de mesInicial a mesFinal em colunas de centavos, com os mesmos
+     * arredondamentos do iterador em BigDecimal, ou retorna null quando os valores não
+     * cabem em long
+     */
+    static CronogramaAmortizacao gerarCronogramaEmCentavos(BigDecimal valorSolicitado, BigDecimal taxaJurosEfetivaMensal,
+                                                           int prazoMeses, int mesInicial, int mesFinal) {
+        long[] centavos = emCentavos(valorSolicitado, taxaJurosEfetivaMensal);
+        if (centavos == null) {
+            return null;
+        }
+
+        long saldoDevedor = centavos[0];
+        long taxa = centavos[1];
+        long amortizacaoMensal = saldoDevedor / prazoMeses;
+        saldoDevedor -= (mesInicial - 1L) * amortizacaoMensal;
+        int meses = mesFinal - mesInicial + 1;
+        long[] valoresParcela = new long[meses];
+        long[] juros = new long[meses];
+        long[] amortizacoes = new long[meses];
+        long[] saldosDevedores = new long[meses];
+        for (int i = 0; i < meses; i++) {
+            long amortizacao = mesInicial + i == prazoMeses ? saldoDevedor : amortizacaoMensal;
+            juros[i] = (saldoDevedor * taxa + METADE_DIVISOR_JUROS) / DIVISOR_JUROS;
+            amortizacoes[i] = amortizacao;
+            valoresParcela[i] = amortizacao + juros[i];
+            saldoDevedor -= amortizacao;
+            saldosDevedores[i] = saldoDevedor;
+        }
+        return new CronogramaAmortizacao(valoresParcela, juros, amortizacoes, saldosDevedores, meses, mesInicial);
+    }
+
+    /**
+     * Soma das parcelas do cronograma completo em centavos: o valor solicitado, que é a
+     * soma das amortizações, mais os juros de cada mês. Retorna null quando os valores não
+     * cabem em long.
+     */
+    static Long somarParcelasEmCentavos(BigDecimal valorSolicitado, BigDecimal taxaJurosEfetivaMensal, int prazoMeses) {
+        long[] centavos = emCentavos(valorSolicitado, taxaJurosEfetivaMensal);
+        if (centavos == null) {
+            return null;
+        }
+
+        long saldoDevedor = centavos[0];
+        long taxa = centavos[1];
+        long amortizacaoMensal = saldoDevedor / prazoMeses;
+        long total = saldoDevedor;
+        try {
+            for (int mes = 1; mes <= prazoMeses; mes++) {
+                total = Math.addExact(total, (saldoDevedor * taxa + METADE_DIVISOR_JUROS) / DIVISOR_JUROS);
+                saldoDevedor -= amortizacaoMensal;
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return total;
+    }
+
+    /**
+     * Valor solicitado em centavos e taxa mensal em centésimos de ponto percentual, ou null
+     * quando o cálculo em long não reproduziria o BigDecimal
+     */
+    private static long[] emCentavos(BigDecimal valorSolicitado, BigDecimal taxaJurosEfetivaMensal) {
+        if (valorSolicitado.scale() > SCALE || taxaJurosEfetivaMensal.scale() != SCALE) {
+            return null;
+        }
+
+        long saldoDevedor;
+        long taxa;
+        try {
+            saldoDevedor = valorSolicitado.movePointRight(SCALE).longValueExact();
+            taxa = taxaJurosEfetivaMensal.unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        // O saldo só diminui, então basta garantir que saldo inicial * taxa não estoura
+        if (taxa < 0 || saldoDevedor > (Long.MAX_VALUE - METADE_DIVISOR_JUROS) / Math.max(taxa, 1)) {
+            return null;
+        }
+        return new long[] {saldoDevedor, taxa};
+    }
+
+    private static BigDecimal amortizacaoMensal(BigDecimal valorSolicitado, int prazoMeses) {
+        return valorSolicitado.divide(BigDecimal.valueOf(prazoMeses), SCALE, RoundingMode.DOWN);
+    }
+
+    private static BigDecimal taxaMensalDecimal(TabelaTaxaProduto tabela) {
+        return tabela.getTaxaJurosEfetivaMensal().divide(BigDecimal.valueOf(100), 10, ROUNDING_MODE);
+    }
+
+    private static BigDecimal juros(BigDecimal saldoDevedor, BigDecimal taxaMensalDecimal) {
+        return saldoDevedor.multiply(taxaMensalDecimal).setScale(SCALE, ROUNDING_MODE);
+    }
+
+    /**
+     * Percorre o cronograma SAC em BigDecimal, calculando um mês por chamada a next(),
+     * do mês inicial ao final
+     */
+    private static final class DetalhamentoMensalSacIterator implements Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> {
+
+        private final BigDecimal amortizacaoMensal;
+        private final BigDecimal taxaMensalDecimal;
+        private final int prazoMeses;
+        private final int mesFinal;
+        private BigDecimal saldoDevedor;
+        private int mes;
+
+        DetalhamentoMensalSacIterator(BigDecimal valorSolicitado, BigDecimal amortizacaoMensal,
+                                      BigDecimal taxaMensalDecimal, int prazoMeses, int mesInicial, int mesFinal) {
+            this.amortizacaoMensal = amortizacaoMensal;
+            this.taxaMensalDecimal = taxaMensalDecimal;
+            this.prazoMeses = prazoMeses;
+            this.mesFinal = mesFinal;
+            this.mes = mesInicial - 1;
+            // Saldos sempre com ao menos duas casas, como no cronograma em centavos
+            this.saldoDevedor = valorSolicitado.setScale(Math.max(valorSolicitado.scale(), SCALE))
+                .subtract(amortizacaoMensal.multiply(BigDecimal.valueOf(mes)));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mes < mesFinal;
+        }
+
+        @Override
+        public SimulacaoEmprestimoResponse.DetalhamentoMensal next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            mes++;
+
+            BigDecimal amortizacao = mes == prazoMeses ? saldoDevedor : amortizacaoMensal;
+            BigDecimal jurosMes = juros(saldoDevedor, taxaMensalDecimal);
+            saldoDevedor = saldoDevedor.subtract(amortizacao);
+
+            return new SimulacaoEmprestimoResponse.DetalhamentoMensal(
+                mes,
+                amortizacao.add(jurosMes),
+                jurosMes,
+                amortizacao,
+                saldoDevedor
+            );
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.caixa.service;
+
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Aquece o catálogo de produtos e as tabelas de taxas logo após a inicialização.
+ * Enquanto o aquecimento não termina a aplicação não é considerada pronta, evitando
+ * que as primeiras requisições paguem a carga do catálogo e o cálculo das tabelas.
+ */
+@ApplicationScoped
+public class AquecimentoService {
+
+    private static final Logger LOG = Logger.getLogger(AquecimentoService.class);
+
+    @Inject
+    ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    @Inject
+    CalculoJurosService calculoJurosService;
+
+    private final AtomicBoolean emAndamento = new AtomicBoolean();
+    private volatile boolean aquecido;
+    private volatile String ultimoErro;
+
+    void aoIniciar(@Observes StartupEvent evento) {
+        aquecerEmSegundoPlano();
+    }
+
+    /**
+     * Dispara o aquecimento no pool de workers, caso ainda não esteja concluído
+     * nem em andamento. Usado na inicialização e para nova tentativa após falha.
+     */
+    public void aquecerEmSegundoPlano() {
+        if (!aquecido && emAndamento.compareAndSet(false, true)) {
+            Infrastructure.getDefaultWorkerPool().execute(this::aquecer);
+        }
+    }
+
+    /**
+     * Recarrega o catálogo e pré-calcula a tabela de taxas de cada produto
+     */
+    @ActivateRequestContext
+    void aquecer() {
+        try {
+            produtoEmprestimoCatalogo.recarregar();
+            List<ProdutoEmprestimo> produtos = produtoEmprestimoCatalogo.listarTodos();
+            produtos.forEach(calculoJurosService::aquecerTabela);
+            ultimoErro = null;
+            aquecido = true;
+            LOG.infof("Aquecimento concluído: %d produtos no catálogo", produtos.size());
+        } catch (RuntimeException e) {
+            ultimoErro = e.getMessage();
+            LOG.warn("Falha no aquecimento do catálogo; nova tentativa na próxima verificação de prontidão", e);
+        } finally {
+            emAndamento.set(false);
+        }
+    }
+
+    public boolean isAquecido() {
+        return aquecido;
+    }
+
+    public String getUltimoErro() {
+        return ultimoErro;
+    }
+}
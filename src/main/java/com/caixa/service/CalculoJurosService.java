@@ -1,20 +1,58 @@
 package com.caixa.service;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.caixa.dto.CronogramaAmortizacao;
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 @ApplicationScoped
 public class CalculoJurosService {
 
     private static final int SCALE = 2;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+    private static final MathContext PRECISAO_POTENCIA = new MathContext(40, ROUNDING_MODE);
+    private static final long TAMANHO_MAXIMO_PONTOS_CONTROLE = 10_000;
+    private static final BigDecimal CENTAVO = new BigDecimal("0.01");
+    private static final BigDecimal MEIO_CENTAVO = new BigDecimal("0.005");
+
+    private final Map<Long, TabelaTaxaProduto> tabelasPorProduto = new ConcurrentHashMap<>();
+    private final GradeFatoresPrice gradeFatores = new GradeFatoresPrice(this::calcularLinhaGrade);
+    private final Map<SistemaAmortizacao, EstrategiaAmortizacao> estrategias = new EnumMap<>(SistemaAmortizacao.class);
+    private final PontosControleCronograma pontosControle = new PontosControleCronograma(TAMANHO_MAXIMO_PONTOS_CONTROLE);
+    private final SimulacaoMetricas simulacaoMetricas;
+
+    /**
+     * Cria o serviço sem instrumentação, para uso fora do container
+     */
+    public CalculoJurosService() {
+        this(SimulacaoMetricas.semRegistro());
+    }
+
+    @Inject
+    public CalculoJurosService(SimulacaoMetricas simulacaoMetricas) {
+        this.simulacaoMetricas = simulacaoMetricas;
+        registrar(new AmortizacaoPrice());
+        registrar(new AmortizacaoSac());
+    }
+
+    private void registrar(EstrategiaAmortizacao estrategia) {
+        estrategias.put(estrategia.sistema(), estrategia);
+    }
 
     /**
      * Calcula a taxa de juros efetiva mensal baseada na taxa anual
@@ -45,32 +83,30 @@ public class CalculoJurosService {
 
 
     /**
-     * Calcula x^n usando multiplicação iterativa
+     * Calcula x^n por exponenciação binária (quadrados sucessivos) com precisão limitada.
+     * Com 40 dígitos significativos o erro fica muito abaixo da 10ª casa decimal usada
+     * no fator Price, e o custo passa a ser O(log n) com operandos de tamanho fixo.
      */
     private BigDecimal potencia(BigDecimal base, int expoente) {
-        BigDecimal resultado = base;
-        for (int i = 1; i < expoente; i++) {
-            resultado = resultado.multiply(base);
-        }
-        
-        return resultado;
+        return base.pow(expoente, PRECISAO_POTENCIA);
     }
 
     /**
      * Calcula o valor da parcela usando o sistema Price (parcelas fixas)
      * Fórmula: PMT = PV * [i * (1 + i)^n] / [(1 + i)^n - 1]
+     * Taxas com até duas casas decimais e prazos do catálogo usam o fator da grade
+     * pré-calculada; os demais casos passam pelo cálculo exato.
      */
     public BigDecimal calcularValorParcela(BigDecimal valorSolicitado, BigDecimal taxaJurosMensal, int prazoMeses) {
-        if (valorSolicitado == null || valorSolicitado.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Valor solicitado deve ser positivo");
-        }
+        validarValorEPrazo(valorSolicitado, prazoMeses);
         
         if (taxaJurosMensal == null || taxaJurosMensal.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Taxa de juros mensal deve ser não negativa");
         }
-        
-        if (prazoMeses <= 0) {
-            throw new IllegalArgumentException("Prazo em meses deve ser positivo");
+
+        BigDecimal fatorGrade = gradeFatores.fator(taxaJurosMensal, prazoMeses);
+        if (fatorGrade != null) {
+            return valorSolicitado.multiply(fatorGrade).setScale(SCALE, ROUNDING_MODE);
         }
 
         // Converte a taxa mensal de percentual para decimal
@@ -85,23 +121,270 @@ public class CalculoJurosService {
         BigDecimal umMaisTaxa = BigDecimal.ONE.add(taxaMensalDecimal);
         BigDecimal umMaisTaxaElevadoN = potencia(umMaisTaxa, prazoMeses);
         
+        // Calcula PMT = PV * fator
+        return valorSolicitado.multiply(calcularFatorPrice(taxaMensalDecimal, umMaisTaxaElevadoN))
+            .setScale(SCALE, ROUNDING_MODE);
+    }
+
+    /**
+     * Calcula o fator Price: [i * (1 + i)^n] / [(1 + i)^n - 1]
+     */
+    private BigDecimal calcularFatorPrice(BigDecimal taxaMensalDecimal, BigDecimal umMaisTaxaElevadoN) {
         // Calcula o numerador: i * (1 + i)^n
         BigDecimal numerador = taxaMensalDecimal.multiply(umMaisTaxaElevadoN);
         
         // Calcula o denominador: (1 + i)^n - 1
         BigDecimal denominador = umMaisTaxaElevadoN.subtract(BigDecimal.ONE);
         
-        // Calcula o fator: [i * (1 + i)^n] / [(1 + i)^n - 1]
-        BigDecimal fator = numerador.divide(denominador, 10, ROUNDING_MODE);
+        return numerador.divide(denominador, 10, ROUNDING_MODE);
+    }
+
+    /**
+     * Calcula uma linha da grade de fatores: a taxa mensal em centésimos de ponto
+     * percentual, com os mesmos passos do cálculo exato, para todos os prazos da grade
+     */
+    private long[] calcularLinhaGrade(int taxaCentesimos) {
+        BigDecimal taxaMensalDecimal = BigDecimal.valueOf(taxaCentesimos, SCALE)
+            .divide(BigDecimal.valueOf(100), 10, ROUNDING_MODE);
+        return calcularLinhaFatores(taxaMensalDecimal, GradeFatoresPrice.PRAZO_MAXIMO_MESES);
+    }
+
+    /**
+     * Calcula os fatores Price sem escala dos prazos 1 a prazoMaximoMeses
+     */
+    private long[] calcularLinhaFatores(BigDecimal taxaMensalDecimal, int prazoMaximoMeses) {
+        BigDecimal umMaisTaxa = BigDecimal.ONE.add(taxaMensalDecimal);
+        long[] linha = new long[prazoMaximoMeses + 1];
+        for (int prazo = 1; prazo < linha.length; prazo++) {
+            BigDecimal fator = calcularFatorPrice(taxaMensalDecimal, potencia(umMaisTaxa, prazo));
+            linha[prazo] = fator.setScale(GradeFatoresPrice.ESCALA_FATOR).unscaledValue().longValueExact();
+        }
+        return linha;
+    }
+
+    private void validarValorEPrazo(BigDecimal valorSolicitado, int prazoMeses) {
+        if (valorSolicitado == null || valorSolicitado.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Valor solicitado deve ser positivo");
+        }
         
-        // Calcula PMT = PV * fator
-        return valorSolicitado.multiply(fator).setScale(SCALE, ROUNDING_MODE);
+        if (prazoMeses <= 0) {
+            throw new IllegalArgumentException("Prazo em meses deve ser positivo");
+        }
     }
 
     /**
-     * Gera a simulação completa do empréstimo com detalhamento mês a mês
+     * Gera a simulação completa do empréstimo pelo sistema Price, com detalhamento mês a mês
      */
     public SimulacaoEmprestimoResponse simularEmprestimo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses) {
+        return simularEmprestimo(produto, valorSolicitado, prazoMeses, SistemaAmortizacao.PRICE);
+    }
+
+    /**
+     * Gera a simulação completa do empréstimo com detalhamento mês a mês. O total com
+     * juros é a soma das parcelas do cronograma.
+     */
+    public SimulacaoEmprestimoResponse simularEmprestimo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses,
+                                                         SistemaAmortizacao sistemaAmortizacao) {
+        validarSimulacao(produto, valorSolicitado, prazoMeses);
+        EstrategiaAmortizacao estrategia = estrategia(sistemaAmortizacao);
+
+        // Obtém taxa efetiva mensal e fator Price da tabela do produto
+        TabelaTaxaProduto tabela = obterTabela(produto);
+        
+        // Gera detalhamento mês a mês
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> memoriaCalculo = simulacaoMetricas.medirCronograma(() ->
+            estrategia.gerarCronograma(valorSolicitado, tabela, prazoMeses));
+
+        return new SimulacaoEmprestimoResponse(
+            produto,
+            produto.taxaJurosAnual,
+            tabela.getTaxaJurosEfetivaMensal(),
+            valorSolicitado,
+            somarParcelas(memoriaCalculo),
+            memoriaCalculo,
+            estrategia.sistema()
+        );
+    }
+
+    /**
+     * Gera a simulação com o detalhamento restrito aos meses de mesInicial a mesFinal.
+     * Os meses e o total com juros são os mesmos da simulação completa, mas apenas o
+     * trecho pedido do cronograma é calculado.
+     */
+    public SimulacaoEmprestimoResponse simularEmprestimo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses,
+                                                         SistemaAmortizacao sistemaAmortizacao, int mesInicial, int mesFinal) {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> memoriaCalculo =
+            simularIntervalo(produto, valorSolicitado, prazoMeses, sistemaAmortizacao, mesInicial, mesFinal);
+        EstrategiaAmortizacao estrategia = estrategia(sistemaAmortizacao);
+        TabelaTaxaProduto tabela = obterTabela(produto);
+
+        return new SimulacaoEmprestimoResponse(
+            produto,
+            produto.taxaJurosAnual,
+            tabela.getTaxaJurosEfetivaMensal(),
+            valorSolicitado,
+            estrategia.somarParcelas(valorSolicitado, tabela, prazoMeses),
+            memoriaCalculo,
+            estrategia.sistema()
+        );
+    }
+
+    /**
+     * Gera apenas o resumo da simulação pelo sistema Price
+     */
+    public SimulacaoResumoResponse simularResumo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses) {
+        return simularResumo(produto, valorSolicitado, prazoMeses, SistemaAmortizacao.PRICE);
+    }
+
+    /**
+     * Gera apenas o resumo da simulação (primeira e última parcela, taxa mensal e total),
+     * sem o detalhamento mês a mês. No Price o custo é constante; no SAC o total percorre
+     * os meses em aritmética de long, sem alocar, com custo linear no prazo.
+     */
+    public SimulacaoResumoResponse simularResumo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses,
+                                                 SistemaAmortizacao sistemaAmortizacao) {
+        validarSimulacao(produto, valorSolicitado, prazoMeses);
+        EstrategiaAmortizacao estrategia = estrategia(sistemaAmortizacao);
+
+        TabelaTaxaProduto tabela = obterTabela(produto);
+        EstrategiaAmortizacao.ResumoAmortizacao resumo = estrategia.resumir(valorSolicitado, tabela, prazoMeses);
+
+        return new SimulacaoResumoResponse(
+            produto.id,
+            produto.nome,
+            produto.taxaJurosAnual,
+            tabela.getTaxaJurosEfetivaMensal(),
+            valorSolicitado,
+            prazoMeses,
+            resumo.primeiraParcela(),
+            resumo.valorTotalComJuros(),
+            estrategia.sistema(),
+            resumo.ultimaParcela()
+        );
+    }
+
+    /**
+     * Maior valor cuja parcela Price no prazo informado não passa da parcela desejada.
+     * A fórmula é invertida (PV = PMT / fator) e o resultado é ajustado centavo a centavo
+     * para respeitar o arredondamento da parcela, então simular esse valor devolve uma
+     * parcela até a desejada e simular um centavo a mais a ultrapassa.
+     */
+    public BigDecimal calcularValorMaximo(ProdutoEmprestimo produto, BigDecimal valorParcela, int prazoMeses) {
+        validarSimulacao(produto, valorParcela, prazoMeses);
+        TabelaTaxaProduto tabela = obterTabela(produto);
+
+        // A parcela arredondada (HALF_UP) não passa de PMT enquanto PV * fator < PMT + meio centavo
+        BigDecimal limite = valorParcela.add(MEIO_CENTAVO);
+        BigDecimal fator = tabela.fator(prazoMeses);
+        BigDecimal estimativa = fator == null
+            ? limite.multiply(BigDecimal.valueOf(prazoMeses))
+            : limite.divide(fator, PRECISAO_POTENCIA);
+
+        BigDecimal valor = estimativa.setScale(SCALE, RoundingMode.CEILING).subtract(CENTAVO);
+        while (valor.signum() > 0 && calcularValorParcela(valor, tabela, prazoMeses).compareTo(valorParcela) > 0) {
+            valor = valor.subtract(CENTAVO);
+        }
+        while (calcularValorParcela(valor.add(CENTAVO), tabela, prazoMeses).compareTo(valorParcela) <= 0) {
+            valor = valor.add(CENTAVO);
+        }
+
+        if (valor.signum() <= 0) {
+            throw new IllegalArgumentException("Parcela insuficiente para qualquer valor no prazo informado");
+        }
+        return valor;
+    }
+
+    /**
+     * Menor prazo, até o prazo máximo do produto, cuja parcela Price não passa da parcela
+     * desejada. A parcela nunca aumenta com o prazo, então a busca é uma bisseção no
+     * intervalo [1, prazo máximo], com O(log n) consultas à tabela do produto.
+     */
+    public int calcularPrazoMinimo(ProdutoEmprestimo produto, BigDecimal valorSolicitado, BigDecimal valorParcela) {
+        validarSimulacao(produto, valorSolicitado, produto == null ? 1 : produto.prazoMaximoMeses);
+        if (valorParcela == null || valorParcela.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Valor da parcela deve ser positivo");
+        }
+        TabelaTaxaProduto tabela = obterTabela(produto);
+
+        int menorPrazo = 1;
+        int maiorPrazo = produto.prazoMaximoMeses;
+        if (calcularValorParcela(valorSolicitado, tabela, maiorPrazo).compareTo(valorParcela) > 0) {
+            throw new IllegalArgumentException("Nenhum prazo até o máximo de " + maiorPrazo
+                + " meses do produto comporta a parcela informada");
+        }
+        while (menorPrazo < maiorPrazo) {
+            int prazo = (menorPrazo + maiorPrazo) >>> 1;
+            if (calcularValorParcela(valorSolicitado, tabela, prazo).compareTo(valorParcela) <= 0) {
+                maiorPrazo = prazo;
+            } else {
+                menorPrazo = prazo + 1;
+            }
+        }
+        return menorPrazo;
+    }
+
+    /**
+     * Gera o detalhamento mês a mês pelo sistema Price
+     */
+    public Iterable<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(
+            ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses) {
+        return simularDetalhamentoMensal(produto, valorSolicitado, prazoMeses, SistemaAmortizacao.PRICE);
+    }
+
+    /**
+     * Gera o detalhamento mês a mês sob demanda: cada mês só é calculado quando o
+     * iterador avança, sem materializar o cronograma completo em memória
+     */
+    public Iterable<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(
+            ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses, SistemaAmortizacao sistemaAmortizacao) {
+        validarSimulacao(produto, valorSolicitado, prazoMeses);
+        EstrategiaAmortizacao estrategia = estrategia(sistemaAmortizacao);
+
+        TabelaTaxaProduto tabela = obterTabela(produto);
+        return () -> estrategia.iterarCronograma(valorSolicitado, tabela, prazoMeses);
+    }
+
+    /**
+     * Calcula apenas os meses de mesInicial a mesFinal do cronograma, com os mesmos valores
+     * do detalhamento completo. No SAC cada mês é obtido em forma fechada; no Price o saldo
+     * inicial vem do ponto de controle mais próximo, a no máximo 12 meses de distância.
+     */
+    public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularIntervalo(
+            ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses, SistemaAmortizacao sistemaAmortizacao,
+            int mesInicial, int mesFinal) {
+        validarSimulacao(produto, valorSolicitado, prazoMeses);
+        if (mesInicial < 1 || mesFinal < mesInicial || mesFinal > prazoMeses) {
+            throw new IllegalArgumentException("Intervalo de meses deve estar entre 1 e o prazo, com mês inicial até o final");
+        }
+        EstrategiaAmortizacao estrategia = estrategia(sistemaAmortizacao);
+
+        TabelaTaxaProduto tabela = obterTabela(produto);
+        return estrategia.gerarIntervalo(valorSolicitado, tabela, prazoMeses, mesInicial, mesFinal);
+    }
+
+    /**
+     * Retorna a estratégia do sistema de amortização; sem sistema informado, usa Price
+     */
+    private EstrategiaAmortizacao estrategia(SistemaAmortizacao sistemaAmortizacao) {
+        return estrategias.get(sistemaAmortizacao == null ? SistemaAmortizacao.PRICE : sistemaAmortizacao);
+    }
+
+    private static BigDecimal somarParcelas(List<SimulacaoEmprestimoResponse.DetalhamentoMensal> cronograma) {
+        if (cronograma instanceof CronogramaAmortizacao colunas) {
+            long totalEmCentavos = 0;
+            for (int i = 0; i < colunas.size(); i++) {
+                totalEmCentavos += colunas.getValorParcelaEmCentavos(i);
+            }
+            return BigDecimal.valueOf(totalEmCentavos, SCALE);
+        }
+        BigDecimal total = BigDecimal.ZERO.setScale(SCALE);
+        for (SimulacaoEmprestimoResponse.DetalhamentoMensal mes : cronograma) {
+            total = total.add(mes.valorParcela);
+        }
+        return total;
+    }
+
+    private void validarSimulacao(ProdutoEmprestimo produto, BigDecimal valorSolicitado, int prazoMeses) {
         if (produto == null) {
             throw new IllegalArgumentException("Produto não pode ser nulo");
         }
@@ -110,40 +393,261 @@ public class CalculoJurosService {
             throw new IllegalArgumentException("Prazo solicitado excede o prazo máximo do produto");
         }
 
-        // Calcula taxa efetiva mensal
+        validarValorEPrazo(valorSolicitado, prazoMeses);
+    }
+
+    /**
+     * Pré-calcula a tabela de taxas do produto, para que a primeira simulação
+     * não pague o custo de montá-la
+     */
+    public void aquecerTabela(ProdutoEmprestimo produto) {
+        obterTabela(produto);
+    }
+
+    /**
+     * Descarta a tabela de taxas do produto, que será recalculada no próximo uso
+     */
+    public void invalidarTabela(Long idProduto) {
+        if (idProduto != null) {
+            tabelasPorProduto.remove(idProduto);
+        }
+    }
+
+    /**
+     * Calcula o valor da parcela a partir do fator Price pré-calculado na tabela
+     */
+    private BigDecimal calcularValorParcela(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+        BigDecimal fator = tabela.fator(prazoMeses);
+        if (fator == null) {
+            return valorSolicitado.divide(BigDecimal.valueOf(prazoMeses), SCALE, ROUNDING_MODE);
+        }
+        return valorSolicitado.multiply(fator).setScale(SCALE, ROUNDING_MODE);
+    }
+
+    /**
+     * Retorna a tabela de taxas do produto, construindo-a no primeiro uso ou quando
+     * a taxa ou o prazo máximo mudaram. Produtos sem ID não são mantidos em cache.
+     */
+    TabelaTaxaProduto obterTabela(ProdutoEmprestimo produto) {
+        if (produto.id == null) {
+            return construirTabela(produto);
+        }
+
+        TabelaTaxaProduto tabela = tabelasPorProduto.get(produto.id);
+        if (tabela == null || !tabela.correspondeA(produto)) {
+            tabela = construirTabela(produto);
+            tabelasPorProduto.put(produto.id, tabela);
+        }
+        return tabela;
+    }
+
+    private TabelaTaxaProduto construirTabela(ProdutoEmprestimo produto) {
         BigDecimal taxaJurosEfetivaMensal = calcularTaxaJurosEfetivaMensal(produto.taxaJurosAnual);
+        BigDecimal taxaMensalDecimal = taxaJurosEfetivaMensal.divide(BigDecimal.valueOf(100), 10, ROUNDING_MODE);
+        int prazoMaximoMeses = produto.prazoMaximoMeses;
+
+        if (taxaMensalDecimal.compareTo(BigDecimal.ZERO) == 0) {
+            return new TabelaTaxaProduto(produto.taxaJurosAnual, prazoMaximoMeses, taxaJurosEfetivaMensal, null);
+        }
+
+        // A linha da grade é compartilhada entre produtos de mesma taxa; só taxas ou prazos
+        // fora dela (produtos não validados) ganham uma linha própria, com os mesmos passos
+        long[] fatores = gradeFatores.linha(taxaJurosEfetivaMensal, prazoMaximoMeses);
+        if (fatores == null) {
+            fatores = calcularLinhaFatores(taxaMensalDecimal, prazoMaximoMeses);
+        }
+        return new TabelaTaxaProduto(produto.taxaJurosAnual, prazoMaximoMeses, taxaJurosEfetivaMensal, fatores);
+    }
+
+    /**
+     * Gera o detalhamento mês a mês do empréstimo. Quando os valores cabem no motor em
+     * centavos o cronograma é montado em colunas, sem objetos por mês.
+     */
+    private List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarDetalhamentoMensal(
+            BigDecimal valorSolicitado, BigDecimal valorParcela, BigDecimal taxaJurosMensal, int prazoMeses) {
+        CronogramaCentavos cronograma = CronogramaCentavos.criar(valorSolicitado, valorParcela, taxaJurosMensal, prazoMeses);
+        if (cronograma != null) {
+            return gerarCronogramaEmColunas(cronograma, prazoMeses, 1);
+        }
         
-        // Calcula valor da parcela
-        BigDecimal valorParcela = calcularValorParcela(valorSolicitado, taxaJurosEfetivaMensal, prazoMeses);
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> detalhamento = new ArrayList<>(prazoMeses);
+        Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses =
+            iterarDetalhamentoMensalBigDecimal(valorSolicitado, valorParcela, taxaJurosMensal, prazoMeses);
         
-        // Calcula valor total com juros
-        BigDecimal valorTotalComJuros = valorParcela.multiply(BigDecimal.valueOf(prazoMeses));
+        while (meses.hasNext()) {
+            detalhamento.add(meses.next());
+        }
         
-        // Gera detalhamento mês a mês
-        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> memoriaCalculo = 
-            gerarDetalhamentoMensal(valorSolicitado, valorParcela, taxaJurosEfetivaMensal, prazoMeses);
+        return detalhamento;
+    }
 
-        return new SimulacaoEmprestimoResponse(
-            produto,
-            produto.taxaJurosAnual,
-            taxaJurosEfetivaMensal,
-            valorSolicitado,
-            valorTotalComJuros,
-            memoriaCalculo
-        );
+    /**
+     * Monta em colunas os próximos meses do cronograma, a partir da posição atual do motor
+     */
+    private static CronogramaAmortizacao gerarCronogramaEmColunas(CronogramaCentavos cronograma, int meses, int primeiroMes) {
+        long[] valoresParcela = new long[meses];
+        long[] juros = new long[meses];
+        long[] amortizacoes = new long[meses];
+        long[] saldosDevedores = new long[meses];
+        int inicioSaldoZerado = meses;
+
+        for (int i = 0; i < meses; i++) {
+            cronograma.avancar();
+            valoresParcela[i] = cronograma.getValorParcela();
+            juros[i] = cronograma.getJuros();
+            amortizacoes[i] = cronograma.getAmortizacao();
+            saldosDevedores[i] = cronograma.getSaldoDevedor();
+            // Depois de zerado o saldo permanece zerado até o fim
+            if (cronograma.isSaldoZerado() && inicioSaldoZerado == meses) {
+                inicioSaldoZerado = i;
+            }
+        }
+        return new CronogramaAmortizacao(valoresParcela, juros, amortizacoes, saldosDevedores, inicioSaldoZerado, primeiroMes);
     }
 
     /**
-     * Gera o detalhamento mês a mês do empréstimo
+     * Percorre o cronograma pelo motor em centavos quando os valores cabem nele,
+     * recorrendo ao cálculo em BigDecimal nos demais casos
      */
-    private List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarDetalhamentoMensal(
+    Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> iterarDetalhamentoMensal(
+            BigDecimal valorSolicitado, BigDecimal valorParcela, BigDecimal taxaJurosMensal, int prazoMeses) {
+        CronogramaCentavos cronograma = CronogramaCentavos.criar(valorSolicitado, valorParcela, taxaJurosMensal, prazoMeses);
+        if (cronograma != null) {
+            return new DetalhamentoMensalCentavosIterator(cronograma, valorParcela);
+        }
+        return iterarDetalhamentoMensalBigDecimal(valorSolicitado, valorParcela, taxaJurosMensal, prazoMeses);
+    }
+
+    /**
+     * Percorre o cronograma com o cálculo de referência em BigDecimal
+     */
+    Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> iterarDetalhamentoMensalBigDecimal(
             BigDecimal valorSolicitado, BigDecimal valorParcela, BigDecimal taxaJurosMensal, int prazoMeses) {
-        
-        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> detalhamento = new ArrayList<>();
         BigDecimal taxaMensalDecimal = taxaJurosMensal.divide(BigDecimal.valueOf(100), 10, ROUNDING_MODE);
-        BigDecimal saldoDevedor = valorSolicitado;
-        
-        for (int mes = 1; mes <= prazoMeses; mes++) {
+        return new DetalhamentoMensalIterator(valorSolicitado, valorParcela, taxaMensalDecimal, prazoMeses);
+    }
+
+    /**
+     * Sistema Price: parcela fixa calculada pelo fator da tabela do produto
+     */
+    private final class AmortizacaoPrice implements EstrategiaAmortizacao {
+
+        @Override
+        public SistemaAmortizacao sistema() {
+            return SistemaAmortizacao.PRICE;
+        }
+
+        @Override
+        public ResumoAmortizacao resumir(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+            BigDecimal valorParcela = calcularValorParcela(valorSolicitado, tabela, prazoMeses);
+            return new ResumoAmortizacao(valorParcela, valorParcela, valorParcela.multiply(BigDecimal.valueOf(prazoMeses)));
+        }
+
+        /**
+         * Todas as parcelas Price são iguais, então a soma é a parcela vezes o prazo
+         */
+        @Override
+        public BigDecimal somarParcelas(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+            return calcularValorParcela(valorSolicitado, tabela, prazoMeses).multiply(BigDecimal.valueOf(prazoMeses));
+        }
+
+        @Override
+        public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarCronograma(
+                BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+            BigDecimal valorParcela = calcularValorParcela(valorSolicitado, tabela, prazoMeses);
+            return gerarDetalhamentoMensal(valorSolicitado, valorParcela, tabela.getTaxaJurosEfetivaMensal(), prazoMeses);
+        }
+
+        @Override
+        public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarIntervalo(
+                BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses, int mesInicial, int mesFinal) {
+            BigDecimal valorParcela = calcularValorParcela(valorSolicitado, tabela, prazoMeses);
+            BigDecimal taxaJurosEfetivaMensal = tabela.getTaxaJurosEfetivaMensal();
+            CronogramaCentavos cronograma = CronogramaCentavos.criar(valorSolicitado, valorParcela, taxaJurosEfetivaMensal, prazoMeses);
+            if (cronograma == null) {
+                return EstrategiaAmortizacao.recortar(iterarDetalhamentoMensalBigDecimal(
+                    valorSolicitado, valorParcela, taxaJurosEfetivaMensal, prazoMeses), mesInicial, mesFinal);
+            }
+
+            pontosControle.posicionar(cronograma, mesInicial - 1);
+            return gerarCronogramaEmColunas(cronograma, mesFinal - mesInicial + 1, mesInicial);
+        }
+
+        @Override
+        public Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> iterarCronograma(
+                BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses) {
+            BigDecimal valorParcela = calcularValorParcela(valorSolicitado, tabela, prazoMeses);
+            return iterarDetalhamentoMensal(valorSolicitado, valorParcela, tabela.getTaxaJurosEfetivaMensal(), prazoMeses);
+        }
+    }
+
+    /**
+     * Percorre o cronograma calculado em centavos; os BigDecimal só são criados
+     * na montagem de cada mês retornado
+     */
+    private static final class DetalhamentoMensalCentavosIterator implements Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> {
+
+        private final CronogramaCentavos cronograma;
+        private final BigDecimal valorParcela;
+
+        DetalhamentoMensalCentavosIterator(CronogramaCentavos cronograma, BigDecimal valorParcela) {
+            this.cronograma = cronograma;
+            this.valorParcela = valorParcela;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cronograma.possuiProximo();
+        }
+
+        @Override
+        public SimulacaoEmprestimoResponse.DetalhamentoMensal next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            cronograma.avancar();
+
+            return new SimulacaoEmprestimoResponse.DetalhamentoMensal(
+                cronograma.getMes(),
+                valorParcela,
+                BigDecimal.valueOf(cronograma.getJuros(), SCALE),
+                BigDecimal.valueOf(cronograma.getAmortizacao(), SCALE),
+                cronograma.isSaldoZerado() ? BigDecimal.ZERO : BigDecimal.valueOf(cronograma.getSaldoDevedor(), SCALE)
+            );
+        }
+    }
+
+    /**
+     * Percorre o cronograma Price calculando um mês por chamada a next()
+     */
+    private static final class DetalhamentoMensalIterator implements Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> {
+
+        private final BigDecimal valorParcela;
+        private final BigDecimal taxaMensalDecimal;
+        private final int prazoMeses;
+        private BigDecimal saldoDevedor;
+        private int mes;
+
+        DetalhamentoMensalIterator(BigDecimal valorSolicitado, BigDecimal valorParcela,
+                                   BigDecimal taxaMensalDecimal, int prazoMeses) {
+            this.valorParcela = valorParcela;
+            this.taxaMensalDecimal = taxaMensalDecimal;
+            this.prazoMeses = prazoMeses;
+            this.saldoDevedor = valorSolicitado;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mes < prazoMeses;
+        }
+
+        @Override
+        public SimulacaoEmprestimoResponse.DetalhamentoMensal next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            mes++;
+
             // Calcula juros do mês
             BigDecimal juros = saldoDevedor.multiply(taxaMensalDecimal).setScale(SCALE, ROUNDING_MODE);
             
@@ -158,15 +662,13 @@ public class CalculoJurosService {
                 saldoDevedor = BigDecimal.ZERO;
             }
             
-            detalhamento.add(new SimulacaoEmprestimoResponse.DetalhamentoMensal(
+            return new SimulacaoEmprestimoResponse.DetalhamentoMensal(
                 mes,
                 valorParcela,
                 juros,
                 amortizacao,
                 saldoDevedor
-            ));
+            );
         }
-        
-        return detalhamento;
     }
 }
@@ -0,0 +1,135 @@
+package com.caixa.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Motor do cronograma Price em centavos, usando apenas aritmética de {@code long}
+ * com arredondamento HALF_UP determinístico. Avança um mês por chamada sem alocar
+ * nenhum objeto e reproduz exatamente o cálculo em BigDecimal, desde que o valor
+ * solicitado tenha no máximo duas casas decimais e caiba em centavos sem estouro.
+ */
+final class CronogramaCentavos {
+
+    // A taxa mensal tem duas casas percentuais, ou seja, quatro casas decimais
+    private static final long DIVISOR_JUROS = 10_000L;
+    private static final long METADE_DIVISOR_JUROS = DIVISOR_JUROS / 2;
+
+    private final long valorSolicitado;
+    private final long valorParcela;
+    private final long taxaMensal;
+    private final int prazoMeses;
+    private long saldoDevedor;
+    private int mes;
+    private long juros;
+    private long amortizacao;
+    private boolean saldoZerado;
+
+    private CronogramaCentavos(long valorSolicitado, long valorParcela, long taxaMensal, int prazoMeses) {
+        this.valorSolicitado = valorSolicitado;
+        this.saldoDevedor = valorSolicitado;
+        this.valorParcela = valorParcela;
+        this.taxaMensal = taxaMensal;
+        this.prazoMeses = prazoMeses;
+    }
+
+    /**
+     * Cria o motor a partir dos valores da simulação, ou retorna null quando algum
+     * deles não pode ser representado em centavos sem alterar o resultado
+     */
+    static CronogramaCentavos criar(BigDecimal valorSolicitado, BigDecimal valorParcela,
+                                    BigDecimal taxaJurosEfetivaMensal, int prazoMeses) {
+        // Com mais de duas casas o saldo em BigDecimal mantém essa escala na saída
+        if (valorSolicitado.scale() > 2 || valorParcela.scale() != 2 || taxaJurosEfetivaMensal.scale() != 2) {
+            return null;
+        }
+
+        try {
+            long valorEmCentavos = valorSolicitado.movePointRight(2).longValueExact();
+            long parcelaEmCentavos = valorParcela.unscaledValue().longValueExact();
+            long taxa = taxaJurosEfetivaMensal.unscaledValue().longValueExact();
+
+            // O saldo só diminui, então basta garantir que saldo inicial * taxa não estoura
+            if (taxa < 0 || valorEmCentavos > (Long.MAX_VALUE - METADE_DIVISOR_JUROS) / Math.max(taxa, 1)) {
+                return null;
+            }
+            return new CronogramaCentavos(valorEmCentavos, parcelaEmCentavos, taxa, prazoMeses);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Novo motor com os mesmos parâmetros, posicionado antes do primeiro mês
+     */
+    CronogramaCentavos reiniciar() {
+        return new CronogramaCentavos(valorSolicitado, valorParcela, taxaMensal, prazoMeses);
+    }
+
+    /**
+     * Reposiciona o motor no fim de um mês cujo saldo já é conhecido, como um ponto de
+     * controle: o próximo avanço calcula o mês seguinte a partir desse saldo
+     */
+    void retomar(int mes, long saldoDevedor) {
+        this.mes = mes;
+        this.saldoDevedor = saldoDevedor;
+    }
+
+    boolean possuiProximo() {
+        return mes < prazoMeses;
+    }
+
+    /**
+     * Calcula o próximo mês: juros = saldo * taxa arredondado HALF_UP em centavos,
+     * amortização = parcela - juros e saldo = saldo - amortização, sem ficar negativo
+     */
+    void avancar() {
+        mes++;
+        juros = (saldoDevedor * taxaMensal + METADE_DIVISOR_JUROS) / DIVISOR_JUROS;
+        amortizacao = valorParcela - juros;
+        saldoDevedor -= amortizacao;
+        saldoZerado = saldoDevedor < 0;
+        if (saldoZerado) {
+            saldoDevedor = 0;
+        }
+    }
+
+    int getMes() {
+        return mes;
+    }
+
+    long getJuros() {
+        return juros;
+    }
+
+    long getAmortizacao() {
+        return amortizacao;
+    }
+
+    long getSaldoDevedor() {
+        return saldoDevedor;
+    }
+
+    /**
+     * Indica se o saldo do mês atual ficou negativo e foi zerado. O cálculo em
+     * BigDecimal usa BigDecimal.ZERO (escala 0) nesse caso, e não 0.00.
+     */
+    boolean isSaldoZerado() {
+        return saldoZerado;
+    }
+
+    long getValorParcela() {
+        return valorParcela;
+    }
+
+    long getValorSolicitado() {
+        return valorSolicitado;
+    }
+
+    long getTaxaMensal() {
+        return taxaMensal;
+    }
+
+    int getPrazoMeses() {
+        return prazoMeses;
+    }
+}
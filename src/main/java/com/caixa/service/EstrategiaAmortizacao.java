@@ -0,0 +1,72 @@
+package com.caixa.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.model.SistemaAmortizacao;
+
+/**
+ * Cálculo de um sistema de amortização a partir da tabela de taxas do produto. O resumo
+ * é obtido sem materializar o cronograma; o cronograma é gerado completo ou percorrido
+ * mês a mês.
+ */
+interface EstrategiaAmortizacao {
+
+    SistemaAmortizacao sistema();
+
+    /**
+     * Primeira e última parcela e total pago, sem materializar o cronograma. O total é
+     * o mesmo de somarParcelas, então o custo pode crescer com o prazo, mas sem alocação.
+     */
+    ResumoAmortizacao resumir(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses);
+
+    /**
+     * Soma das parcelas do cronograma completo, idêntica à do cronograma gerado, sem
+     * materializá-lo
+     */
+    BigDecimal somarParcelas(BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses);
+
+    /**
+     * Cronograma completo, em colunas de centavos quando os valores cabem nelas
+     */
+    List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarCronograma(
+        BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses);
+
+    /**
+     * Meses de mesInicial a mesFinal (inclusive), com os mesmos valores do cronograma
+     * completo, sem calcular os meses anteriores um a um sempre que possível
+     */
+    List<SimulacaoEmprestimoResponse.DetalhamentoMensal> gerarIntervalo(
+        BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses, int mesInicial, int mesFinal);
+
+    /**
+     * Cronograma calculado sob demanda, um mês por chamada a next()
+     */
+    Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> iterarCronograma(
+        BigDecimal valorSolicitado, TabelaTaxaProduto tabela, int prazoMeses);
+
+    /**
+     * Recorta um intervalo de um cronograma percorrido mês a mês, para os casos em que
+     * não há como saltar direto para o mês inicial
+     */
+    static List<SimulacaoEmprestimoResponse.DetalhamentoMensal> recortar(
+            Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses, int mesInicial, int mesFinal) {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> intervalo = new ArrayList<>(mesFinal - mesInicial + 1);
+        while (meses.hasNext()) {
+            SimulacaoEmprestimoResponse.DetalhamentoMensal mes = meses.next();
+            if (mes.mes > mesFinal) {
+                break;
+            }
+            if (mes.mes >= mesInicial) {
+                intervalo.add(mes);
+            }
+        }
+        return intervalo;
+    }
+
+    record ResumoAmortizacao(BigDecimal primeiraParcela, BigDecimal ultimaParcela, BigDecimal valorTotalComJuros) {
+    }
+}
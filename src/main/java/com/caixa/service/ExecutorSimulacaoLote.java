@@ -0,0 +1,69 @@
+package com.caixa.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool dedicado às simulações em lote, separado do ForkJoinPool comum para que um lote
+ * grande não dispute threads com o restante da JVM. O número de threads e a fila são
+ * limitados; com a fila cheia a própria thread da requisição executa o item, o que
+ * segura novos envios até o pool ter folga.
+ */
+@ApplicationScoped
+public class ExecutorSimulacaoLote implements Executor {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Sem caixa.simulacao.lote.threads configurado, usa uma thread por processador disponível
+     */
+    @Inject
+    public ExecutorSimulacaoLote(@ConfigProperty(name = "caixa.simulacao.lote.threads") Optional<Integer> threads,
+                                 @ConfigProperty(name = "caixa.simulacao.lote.fila", defaultValue = "1000") int capacidadeFila) {
+        this(threads.orElseGet(Runtime.getRuntime()::availableProcessors), capacidadeFila);
+    }
+
+    ExecutorSimulacaoLote(int threads, int capacidadeFila) {
+        if (threads < 1 || capacidadeFila < 1) {
+            throw new IllegalArgumentException("Threads e fila do executor de lote devem ser positivos");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacidadeFila), new FabricaThreads(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void execute(Runnable tarefa) {
+        executor.execute(tarefa);
+    }
+
+    int threads() {
+        return executor.getCorePoolSize();
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdown();
+    }
+
+    private static final class FabricaThreads implements ThreadFactory {
+
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "simulacao-lote-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.caixa.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import com.caixa.model.ProdutoEmprestimo;
+
+/**
+ * Grade global de fatores Price indexada por (taxa mensal, prazo). As taxas do catálogo
+ * têm duas casas decimais, então a taxa mensal em centésimos de ponto percentual vira o
+ * índice da linha e cada linha guarda os fatores de todos os prazos como long (valor sem
+ * escala, com {@value #ESCALA_FATOR} casas). As linhas são calculadas no primeiro uso da
+ * taxa e depois compartilhadas, inclusive pelas tabelas de taxa dos produtos; taxas e
+ * prazos fora da grade retornam null.
+ */
+final class GradeFatoresPrice {
+
+    static final int ESCALA_FATOR = 10;
+    /**
+     * 6,00% a.m. cobre a taxa mensal de 100% a.a., o máximo aceito para um produto
+     */
+    static final int TAXA_MAXIMA_CENTESIMOS = 600;
+    static final int PRAZO_MAXIMO_MESES = ProdutoEmprestimo.PRAZO_MAXIMO_PERMITIDO;
+
+    private static final BigDecimal LIMITE_TAXA = BigDecimal.valueOf(TAXA_MAXIMA_CENTESIMOS);
+
+    private final AtomicReferenceArray<long[]> linhas = new AtomicReferenceArray<>(TAXA_MAXIMA_CENTESIMOS + 1);
+    private final IntFunction<long[]> calculadoraLinha;
+
+    /**
+     * @param calculadoraLinha recebe a taxa mensal em centésimos e devolve os fatores
+     *                         sem escala para os prazos 0 a {@value #PRAZO_MAXIMO_MESES}
+     */
+    GradeFatoresPrice(IntFunction<long[]> calculadoraLinha) {
+        this.calculadoraLinha = calculadoraLinha;
+    }
+
+    /**
+     * Retorna o fator Price da grade, ou null quando a taxa ou o prazo estão fora dela
+     */
+    BigDecimal fator(BigDecimal taxaJurosMensal, int prazoMeses) {
+        if (prazoMeses < 1 || prazoMeses > PRAZO_MAXIMO_MESES) {
+            return null;
+        }
+        int indice = indiceTaxa(taxaJurosMensal);
+        if (indice < 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(linha(indice)[prazoMeses], ESCALA_FATOR);
+    }
+
+    /**
+     * Retorna a linha compartilhada de fatores da taxa, ou null quando a taxa está fora
+     * da grade ou o prazo máximo pedido passa do último prazo da linha
+     */
+    long[] linha(BigDecimal taxaJurosMensal, int prazoMaximoMeses) {
+        if (prazoMaximoMeses > PRAZO_MAXIMO_MESES) {
+            return null;
+        }
+        int indice = indiceTaxa(taxaJurosMensal);
+        return indice < 0 ? null : linha(indice);
+    }
+
+    private long[] linha(int indice) {
+        long[] linha = linhas.get(indice);
+        if (linha == null) {
+            // Corridas apenas recalculam a mesma linha; qualquer uma pode ser publicada
+            linha = calculadoraLinha.apply(indice);
+            linhas.set(indice, linha);
+        }
+        return linha;
+    }
+
+    /**
+     * Converte a taxa mensal percentual em centésimos (1,25 -> 125), ou -1 quando ela
+     * é zero, tem mais de duas casas decimais significativas ou passa do limite da grade
+     */
+    static int indiceTaxa(BigDecimal taxaJurosMensal) {
+        BigDecimal centesimos = taxaJurosMensal.movePointRight(2);
+        if (centesimos.scale() > 0) {
+            centesimos = centesimos.stripTrailingZeros();
+            if (centesimos.scale() > 0) {
+                return -1;
+            }
+        }
+        if (centesimos.signum() <= 0 || centesimos.compareTo(LIMITE_TAXA) > 0) {
+            return -1;
+        }
+        return centesimos.intValue();
+    }
+}
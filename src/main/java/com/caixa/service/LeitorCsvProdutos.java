@@ -0,0 +1,212 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê produtos de um CSV separado por vírgulas, com cabeçalho na primeira linha. As colunas
+ * são localizadas pelo nome no cabeçalho; colunas desconhecidas (como o id gerado pela
+ * exportação) são ignoradas. Campos entre aspas podem conter vírgulas, aspas duplicadas e
+ * quebras de linha, como os escritos por {@link #escapar(String)}; dentro do campo as
+ * quebras de linha são lidas como {@code \n}.
+ */
+final class LeitorCsvProdutos implements LeitorProdutos {
+
+    static final String COLUNA_ID = "id";
+    static final String COLUNA_NOME = "nome";
+    static final String COLUNA_TAXA = "taxaJurosAnual";
+    static final String COLUNA_PRAZO = "prazoMaximoMeses";
+
+    private static final char SEPARADOR = ',';
+    private static final char ASPAS = '"';
+
+    private final BufferedReader leitor;
+    private final int indiceNome;
+    private final int indiceTaxa;
+    private final int indicePrazo;
+    private int numeroLinha;
+    private int numeroLinhaItem;
+    private int numeroLinhaProximo;
+    private String proximaLinha;
+
+    LeitorCsvProdutos(BufferedReader leitor) {
+        this.leitor = leitor;
+        String cabecalho = lerLinha();
+        this.numeroLinhaItem = numeroLinha;
+        if (cabecalho == null) {
+            throw new BadRequestException("Arquivo CSV vazio: o cabeçalho é obrigatório");
+        }
+        List<String> colunas = separarCampos(removerBom(cabecalho));
+        this.indiceNome = indiceObrigatorio(colunas, COLUNA_NOME);
+        this.indiceTaxa = indiceObrigatorio(colunas, COLUNA_TAXA);
+        this.indicePrazo = indiceObrigatorio(colunas, COLUNA_PRAZO);
+        this.proximaLinha = lerProximoRegistro();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return proximaLinha != null;
+    }
+
+    @Override
+    public ProdutoEmprestimoRequest next() {
+        if (proximaLinha == null) {
+            throw new NoSuchElementException();
+        }
+        numeroLinhaItem = numeroLinhaProximo;
+        List<String> campos = separarCampos(proximaLinha);
+        proximaLinha = lerProximoRegistro();
+
+        try {
+            return new ProdutoEmprestimoRequest(
+                campo(campos, indiceNome),
+                decimal(campo(campos, indiceTaxa)),
+                inteiro(campo(campos, indicePrazo)));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Valor numérico inválido (" + posicao() + ")");
+        }
+    }
+
+    @Override
+    public String posicao() {
+        return "linha " + numeroLinhaItem;
+    }
+
+    /**
+     * Escapa um campo para escrita em CSV, usando aspas quando necessário
+     */
+    static String escapar(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(SEPARADOR) < 0 && valor.indexOf(ASPAS) < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return ASPAS + valor.replace("\"", "\"\"") + ASPAS;
+    }
+
+    private List<String> separarCampos(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == ASPAS && i + 1 < linha.length() && linha.charAt(i + 1) == ASPAS) {
+                    atual.append(ASPAS);
+                    i++;
+                } else if (c == ASPAS) {
+                    entreAspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == ASPAS) {
+                entreAspas = true;
+            } else if (c == SEPARADOR) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new BadRequestException("Aspas não fechadas na linha " + numeroLinhaItem);
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private String campo(List<String> campos, int indice) {
+        if (indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static BigDecimal decimal(String valor) {
+        return valor == null ? null : new BigDecimal(valor);
+    }
+
+    private static Integer inteiro(String valor) {
+        return valor == null ? null : Integer.valueOf(valor);
+    }
+
+    private static int indiceObrigatorio(List<String> colunas, String nome) {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (colunas.get(i).trim().equalsIgnoreCase(nome)) {
+                return i;
+            }
+        }
+        throw new BadRequestException("Coluna obrigatória ausente no cabeçalho CSV: " + nome);
+    }
+
+    private static String removerBom(String linha) {
+        return !linha.isEmpty() && linha.charAt(0) == '\uFEFF' ? linha.substring(1) : linha;
+    }
+
+    /**
+     * Lê o próximo registro não vazio. Enquanto houver aspas abertas, as linhas seguintes
+     * fazem parte do mesmo campo e são juntadas com {@code \n}; se o arquivo terminar
+     * antes, o registro é devolvido como está e separarCampos rejeita as aspas abertas.
+     */
+    private String lerProximoRegistro() {
+        String linha;
+        do {
+            linha = lerLinha();
+        } while (linha != null && linha.isBlank());
+        if (linha == null) {
+            return null;
+        }
+        numeroLinhaProximo = numeroLinha;
+
+        StringBuilder registro = null;
+        boolean entreAspas = aspasAbertas(linha, false);
+        while (entreAspas) {
+            String continuacao = lerLinha();
+            if (continuacao == null) {
+                break;
+            }
+            if (registro == null) {
+                registro = new StringBuilder(linha);
+            }
+            registro.append('\n').append(continuacao);
+            entreAspas = aspasAbertas(continuacao, true);
+        }
+        return registro == null ? linha : registro.toString();
+    }
+
+    /**
+     * Indica se as aspas continuam abertas ao fim do trecho. Aspas duplicadas se anulam,
+     * então basta alternar o estado a cada aspa.
+     */
+    private static boolean aspasAbertas(String trecho, boolean abertasNoInicio) {
+        boolean abertas = abertasNoInicio;
+        for (int i = 0; i < trecho.length(); i++) {
+            if (trecho.charAt(i) == ASPAS) {
+                abertas = !abertas;
+            }
+        }
+        return abertas;
+    }
+
+    private String lerLinha() {
+        try {
+            String linha = leitor.readLine();
+            if (linha != null) {
+                numeroLinha++;
+            }
+            return linha;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o arquivo CSV", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê produtos de um array JSON, desserializando um elemento por vez a partir do stream
+ */
+final class LeitorJsonProdutos implements LeitorProdutos {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private int numeroItem;
+    private JsonToken proximoToken;
+
+    LeitorJsonProdutos(ObjectMapper objectMapper, InputStream conteudo) {
+        this.objectMapper = objectMapper;
+        try {
+            this.parser = objectMapper.getFactory().createParser(conteudo);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("O conteúdo JSON deve ser um array de produtos");
+            }
+            this.proximoToken = parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("JSON inválido: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o conteúdo JSON", e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (proximoToken == null) {
+            throw new BadRequestException("JSON inválido: array não terminado após o item " + numeroItem);
+        }
+        return proximoToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public ProdutoEmprestimoRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        numeroItem++;
+        try {
+            ProdutoEmprestimoRequest produto = objectMapper.readValue(parser, ProdutoEmprestimoRequest.class);
+            proximoToken = parser.nextToken();
+            return produto;
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("JSON inválido (" + posicao() + "): " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o conteúdo JSON", e);
+        }
+    }
+
+    @Override
+    public String posicao() {
+        return "item " + numeroItem;
+    }
+}
@@ -0,0 +1,17 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoRequest;
+
+import java.util.Iterator;
+
+/**
+ * Leitura incremental dos produtos de um arquivo de importação, um item por vez,
+ * sem carregar o arquivo inteiro em memória
+ */
+interface LeitorProdutos extends Iterator<ProdutoEmprestimoRequest> {
+
+    /**
+     * Posição do último item lido, usada nas mensagens de erro (ex.: "linha 12")
+     */
+    String posicao();
+}
@@ -0,0 +1,99 @@
+package com.caixa.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Pontos de controle do cronograma Price em centavos: o saldo ao fim de cada bloco de
+ * {@value #INTERVALO} meses. Como os juros são arredondados mês a mês, o saldo fechado
+ * da fórmula Price não reproduz o do cronograma; com os pontos, chegar a qualquer mês
+ * custa no máximo {@value #INTERVALO} avanços a partir do ponto anterior. Os pontos
+ * são registrados só até o mês mais distante já consultado e estendidos sob demanda.
+ * Eles dependem só de valor, parcela, taxa e prazo, então não precisam ser invalidados
+ * quando um produto muda.
+ */
+final class PontosControleCronograma {
+
+    static final int INTERVALO = 12;
+
+    private final Cache<Chave, Pontos> saldos;
+
+    PontosControleCronograma(long tamanhoMaximo) {
+        this.saldos = Caffeine.newBuilder()
+            .maximumSize(tamanhoMaximo)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * Avança o cronograma até o fim do mês informado, partindo do ponto de controle
+     * mais próximo. Os pontos que ainda faltam até o mês são calculados a partir do
+     * último já registrado, sem percorrer o restante do prazo.
+     */
+    void posicionar(CronogramaCentavos cronograma, int mes) {
+        if (mes >= INTERVALO) {
+            Pontos pontos = saldos.get(chave(cronograma), ignorada -> new Pontos(cronograma));
+            int ponto = mes / INTERVALO;
+            cronograma.retomar(ponto * INTERVALO, pontos.saldoAte(cronograma, ponto));
+        }
+        while (cronograma.getMes() < mes) {
+            cronograma.avancar();
+        }
+    }
+
+    long tamanho() {
+        saldos.cleanUp();
+        return saldos.estimatedSize();
+    }
+
+    /**
+     * Quantos pontos além do mês zero já foram registrados para o cronograma
+     */
+    int pontosCalculados(CronogramaCentavos cronograma) {
+        Pontos pontos = saldos.getIfPresent(chave(cronograma));
+        return pontos == null ? 0 : pontos.ultimo();
+    }
+
+    private static Chave chave(CronogramaCentavos cronograma) {
+        return new Chave(cronograma.getValorSolicitado(), cronograma.getValorParcela(),
+            cronograma.getTaxaMensal(), cronograma.getPrazoMeses());
+    }
+
+    private record Chave(long valorSolicitado, long valorParcela, long taxaMensal, int prazoMeses) {
+    }
+
+    /**
+     * Saldos ao fim de cada bloco, preenchidos do início até o índice {@code ultimo}
+     */
+    private static final class Pontos {
+
+        private final long[] saldos;
+        private int ultimo;
+
+        Pontos(CronogramaCentavos cronograma) {
+            this.saldos = new long[cronograma.getPrazoMeses() / INTERVALO + 1];
+            this.saldos[0] = cronograma.getValorSolicitado();
+        }
+
+        /**
+         * Retorna o saldo do ponto, estendendo os pontos registrados até ele com o
+         * cronograma informado, que fica em uma posição qualquer e deve ser retomado
+         */
+        synchronized long saldoAte(CronogramaCentavos cronograma, int ponto) {
+            if (ponto > ultimo) {
+                cronograma.retomar(ultimo * INTERVALO, saldos[ultimo]);
+                while (ultimo < ponto) {
+                    for (int i = 0; i < INTERVALO; i++) {
+                        cronograma.avancar();
+                    }
+                    saldos[++ultimo] = cronograma.getSaldoDevedor();
+                }
+            }
+            return saldos[ponto];
+        }
+
+        synchronized int ultimo() {
+            return ultimo;
+        }
+    }
+}
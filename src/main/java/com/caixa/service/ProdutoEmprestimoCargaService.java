@@ -0,0 +1,182 @@
+package com.caixa.service;
+
+import com.caixa.dto.ImportacaoProdutosResponse;
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import com.caixa.repository.ProdutoEmprestimoRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.BadRequestException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Importação e exportação de produtos em massa, em JSON ou CSV. A importação lê o arquivo
+ * item a item e persiste tudo em uma única transação: a cada lote os inserts são enviados
+ * ao banco em batch JDBC e o contexto de persistência é limpo, mantendo a memória constante.
+ * O catálogo em memória só é recarregado depois que a transação é confirmada.
+ */
+@ApplicationScoped
+public class ProdutoEmprestimoCargaService {
+
+    @Inject
+    ProdutoEmprestimoRepository produtoEmprestimoRepository;
+
+    @Inject
+    ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    TransactionSynchronizationRegistry transacoes;
+
+    @ConfigProperty(name = "caixa.produtos.importacao.tamanho-lote", defaultValue = "500")
+    int tamanhoLote;
+
+    /**
+     * Importa um array JSON de produtos
+     */
+    public ImportacaoProdutosResponse importarJson(InputStream conteudo) {
+        return importar(new LeitorJsonProdutos(objectMapper, conteudo));
+    }
+
+    /**
+     * Importa um CSV de produtos com cabeçalho nome, taxaJurosAnual e prazoMaximoMeses
+     */
+    public ImportacaoProdutosResponse importarCsv(InputStream conteudo) {
+        return importar(new LeitorCsvProdutos(new BufferedReader(new InputStreamReader(conteudo, StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Escreve todos os produtos do catálogo como um array JSON, um item por vez
+     */
+    public void exportarJson(OutputStream saida) throws IOException {
+        ObjectWriter escritor = objectMapper.writerFor(ProdutoEmprestimo.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+        gerador.writeStartArray();
+        for (ProdutoEmprestimo produto : produtoEmprestimoCatalogo.listarTodos()) {
+            escritor.writeValue(gerador, produto);
+        }
+        gerador.writeEndArray();
+        gerador.flush();
+    }
+
+    /**
+     * Escreve todos os produtos do catálogo em CSV, no mesmo formato aceito pela importação
+     */
+    public void exportarCsv(OutputStream saida) throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write(String.join(",", LeitorCsvProdutos.COLUNA_ID, LeitorCsvProdutos.COLUNA_NOME,
+            LeitorCsvProdutos.COLUNA_TAXA, LeitorCsvProdutos.COLUNA_PRAZO));
+        escritor.write('\n');
+        for (ProdutoEmprestimo produto : produtoEmprestimoCatalogo.listarTodos()) {
+            escritor.write(String.valueOf(produto.id));
+            escritor.write(',');
+            escritor.write(LeitorCsvProdutos.escapar(produto.nome));
+            escritor.write(',');
+            escritor.write(produto.taxaJurosAnual.toPlainString());
+            escritor.write(',');
+            escritor.write(String.valueOf(produto.prazoMaximoMeses));
+            escritor.write('\n');
+        }
+        escritor.flush();
+    }
+
+    ImportacaoProdutosResponse importar(LeitorProdutos leitor) {
+        if (tamanhoLote < 1) {
+            throw new BadRequestException("Tamanho de lote da importação deve ser positivo: " + tamanhoLote);
+        }
+        long inicio = System.nanoTime();
+        int importados = persistirEmLotes(leitor);
+        int lotes = (importados + tamanhoLote - 1) / tamanhoLote;
+        return new ImportacaoProdutosResponse(importados, lotes, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Persiste os produtos lidos em uma única transação, enviando e liberando o contexto
+     * de persistência a cada lote. Qualquer item inválido desfaz a importação inteira;
+     * o catálogo é recarregado uma única vez, depois da confirmação.
+     */
+    @Transactional
+    int persistirEmLotes(LeitorProdutos leitor) {
+        int importados = 0;
+        while (leitor.hasNext()) {
+            ProdutoEmprestimoRequest request = leitor.next();
+            validar(request, leitor.posicao());
+
+            produtoEmprestimoRepository.persist(new ProdutoEmprestimo(request.getNome(), request.getTaxaJurosAnual(),
+                request.getPrazoMaximoMeses()));
+            importados++;
+            if (importados % tamanhoLote == 0) {
+                enviarLote();
+            }
+        }
+        if (importados % tamanhoLote != 0) {
+            enviarLote();
+        }
+        if (importados > 0) {
+            aposConfirmacao(produtoEmprestimoCatalogo::recarregar);
+        }
+        return importados;
+    }
+
+    private void enviarLote() {
+        produtoEmprestimoRepository.flush();
+        produtoEmprestimoRepository.getEntityManager().clear();
+    }
+
+    /**
+     * Executa a ação somente se a transação da importação for confirmada
+     */
+    private void aposConfirmacao(Runnable acao) {
+        transacoes.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    acao.run();
+                }
+            }
+        });
+    }
+
+    private void validar(ProdutoEmprestimoRequest request, String posicao) {
+        if (request == null) {
+            throw new BadRequestException("Produto ausente (" + posicao + ")");
+        }
+        Set<ConstraintViolation<ProdutoEmprestimoRequest>> violacoes = validator.validate(request);
+        if (!violacoes.isEmpty()) {
+            throw new BadRequestException("Produto inválido (" + posicao + "): "
+                + violacoes.iterator().next().getMessage());
+        }
+    }
+}
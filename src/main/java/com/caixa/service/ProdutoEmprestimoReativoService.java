@@ -0,0 +1,145 @@
+package com.caixa.service;
+
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import com.caixa.repository.VersaoCatalogo;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Variante reativa do {@link ProdutoEmprestimoService}, com resultados em {@link Uni}.
+ * Leituras do catálogo e simulações são calculadas em memória e executadas na própria
+ * thread de I/O quando o catálogo já está carregado. Tudo o que depende do banco
+ * (escritas, paginação e a carga inicial do catálogo) é despachado para o pool de
+ * workers, sem bloquear o event loop.
+ */
+@ApplicationScoped
+public class ProdutoEmprestimoReativoService {
+
+    @Inject
+    ProdutoEmprestimoService produtoEmprestimoService;
+
+    @Inject
+    ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    Executor executorBloqueante = Infrastructure.getDefaultWorkerPool();
+
+    public Uni<List<ProdutoEmprestimo>> listarTodos() {
+        return emMemoria(produtoEmprestimoService::listarTodos);
+    }
+
+    public Uni<VersaoCatalogo> obterVersaoCatalogo() {
+        return emMemoria(produtoEmprestimoService::obterVersaoCatalogo);
+    }
+
+    public Uni<ProdutoEmprestimo> buscarPorId(Long id) {
+        return emMemoria(() -> produtoEmprestimoService.buscarPorId(id));
+    }
+
+    public Uni<ProdutoEmprestimoPaginaResponse> listarPagina(String ordenarPor, String direcao, String cursor, int tamanho) {
+        return noBanco(() -> produtoEmprestimoService.listarPagina(ordenarPor, direcao, cursor, tamanho));
+    }
+
+    public Uni<ProdutoEmprestimo> criar(ProdutoEmprestimoRequest request) {
+        return noBanco(() -> produtoEmprestimoService.criar(request));
+    }
+
+    public Uni<ProdutoEmprestimo> atualizar(Long id, ProdutoEmprestimoRequest request, Long versaoEsperada) {
+        return noBanco(() -> produtoEmprestimoService.atualizar(id, request, versaoEsperada));
+    }
+
+    public Uni<Void> remover(Long id) {
+        return noBanco(() -> {
+            produtoEmprestimoService.remover(id);
+            return null;
+        });
+    }
+
+    public Uni<SimulacaoEmprestimoResponse> simularEmprestimo(SimulacaoEmprestimoRequest request) {
+        return emMemoria(() -> produtoEmprestimoService.simularEmprestimo(request));
+    }
+
+    public Uni<SimulacaoEmprestimoResponse> simularEmprestimo(SimulacaoEmprestimoRequest request,
+                                                              Integer mesInicial, Integer mesFinal) {
+        return emMemoria(() -> produtoEmprestimoService.simularEmprestimo(request, mesInicial, mesFinal));
+    }
+
+    public Uni<SimulacaoResumoResponse> simularResumo(SimulacaoEmprestimoRequest request) {
+        return emMemoria(() -> produtoEmprestimoService.simularResumo(request));
+    }
+
+    public Uni<SimulacaoResumoResponse> calcularValorMaximo(ValorMaximoRequest request) {
+        return emMemoria(() -> produtoEmprestimoService.calcularValorMaximo(request));
+    }
+
+    public Uni<SimulacaoResumoResponse> calcularPrazoMinimo(PrazoMinimoRequest request) {
+        return emMemoria(() -> produtoEmprestimoService.calcularPrazoMinimo(request));
+    }
+
+    public Uni<List<SimulacaoEmprestimoResponse.DetalhamentoMensal>> simularIntervalo(SimulacaoEmprestimoRequest request,
+                                                                                     Integer mesInicial, Integer mesFinal) {
+        return emMemoria(() -> produtoEmprestimoService.simularIntervalo(request, mesInicial, mesFinal));
+    }
+
+    /**
+     * Emite o detalhamento mês a mês à medida que é consumido
+     */
+    public Multi<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(SimulacaoEmprestimoRequest request) {
+        return emMemoria(() -> produtoEmprestimoService.simularDetalhamentoMensal(request))
+            .onItem().transformToMulti(meses -> Multi.createFrom().iterable(meses));
+    }
+
+    /**
+     * O lote é processado em paralelo e pode ser longo, por isso nunca roda no event loop
+     */
+    public Uni<List<SimulacaoLoteItemResponse>> simularLote(List<SimulacaoEmprestimoRequest> requests) {
+        return Uni.createFrom().item(() -> produtoEmprestimoService.simularLote(requests))
+            .runSubscriptionOn(executorBloqueante);
+    }
+
+    /**
+     * A comparação simula todos os produtos do catálogo, por isso também roda fora do event loop
+     */
+    public Uni<List<SimulacaoResumoResponse>> compararProdutos(ComparacaoProdutosRequest request, Integer limite) {
+        return Uni.createFrom().item(() -> produtoEmprestimoService.compararProdutos(request, limite))
+            .runSubscriptionOn(executorBloqueante);
+    }
+
+    /**
+     * Executa na thread atual quando o catálogo está em memória; caso contrário,
+     * a primeira carga é feita no pool de workers
+     */
+    private <T> Uni<T> emMemoria(Supplier<T> operacao) {
+        if (produtoEmprestimoCatalogo.isCarregado()) {
+            return Uni.createFrom().item(operacao);
+        }
+        return noBanco(operacao);
+    }
+
+    private <T> Uni<T> noBanco(Supplier<T> operacao) {
+        return Uni.createFrom().item(() -> executarComContexto(operacao))
+            .runSubscriptionOn(executorBloqueante);
+    }
+
+    @ActivateRequestContext
+    <T> T executarComContexto(Supplier<T> operacao) {
+        return operacao.get();
+    }
+}
@@ -1,42 +1,125 @@
 package com.caixa.service;
 
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
 import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.ProdutoEmprestimoResumo;
 import com.caixa.dto.SimulacaoEmprestimoRequest;
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
+import com.caixa.repository.OrdenacaoProduto;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
 import com.caixa.repository.ProdutoEmprestimoRepository;
+import com.caixa.repository.VersaoCatalogo;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
 import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.Response;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class ProdutoEmprestimoService {
 
+    private static final String SEPARADOR_CURSOR = "|";
+    private static final String OPERACAO_COMPLETA = "completa";
+    private static final String OPERACAO_RESUMO = "resumo";
+    private static final String OPERACAO_DETALHAMENTO = "detalhamento";
+    private static final String OPERACAO_LOTE = "lote";
+    private static final String OPERACAO_INTERVALO = "intervalo";
+    private static final String OPERACAO_VALOR_MAXIMO = "valor_maximo";
+    private static final String OPERACAO_PRAZO_MINIMO = "prazo_minimo";
+    private static final String OPERACAO_COMPARACAO = "comparacao";
+    // Menor custo total primeiro; empates pela menor parcela e, por fim, pelo ID do produto
+    private static final Comparator<SimulacaoResumoResponse> ORDEM_COMPARACAO =
+        Comparator.comparing(SimulacaoResumoResponse::getValorTotalComJuros)
+            .thenComparing(SimulacaoResumoResponse::getValorParcela)
+            .thenComparing(SimulacaoResumoResponse::getIdProduto);
+
     @Inject
     ProdutoEmprestimoRepository produtoEmprestimoRepository;
 
+    @Inject
+    ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
     @Inject
     CalculoJurosService calculoJurosService;
 
+    @Inject
+    SimulacaoMetricas simulacaoMetricas;
+
+    @Inject
+    SimulacaoCache simulacaoCache;
+
+    @Inject
+    TransactionSynchronizationRegistry transacoes;
+
+    @Inject
+    ExecutorSimulacaoLote executorSimulacaoLote;
+
     /**
-     * Lista todos os produtos de empréstimo
+     * Lista todos os produtos de empréstimo a partir do catálogo em memória
      */
     public List<ProdutoEmprestimo> listarTodos() {
-        return produtoEmprestimoRepository.listAll();
+        return simulacaoMetricas.medirConsulta("catalogo_listar_todos", produtoEmprestimoCatalogo::listarTodos);
     }
 
     /**
-     * Busca um produto por ID
+     * Versão atual do catálogo em memória, usada para validar o cache dos clientes
      */
-    public ProdutoEmprestimo buscarPorId(Long id) {
-        ProdutoEmprestimo produto = produtoEmprestimoRepository.findById(id);
-        if (produto == null) {
-            throw new NotFoundException("Produto não encontrado com ID: " + id);
+    public VersaoCatalogo obterVersaoCatalogo() {
+        return produtoEmprestimoCatalogo.obterVersao();
+    }
+
+    /**
+     * Lista uma página de produtos projetados em id, nome e taxa, ordenada pelo campo
+     * informado. O cursor retornado em uma página é usado para obter a seguinte.
+     */
+    public ProdutoEmprestimoPaginaResponse listarPagina(String ordenarPor, String direcao, String cursor, int tamanho) {
+        OrdenacaoProduto ordenacao = OrdenacaoProduto.doParametro(ordenarPor)
+            .orElseThrow(() -> new BadRequestException("Ordenação inválida: " + ordenarPor));
+        boolean crescente = lerDirecao(direcao);
+        ProdutoEmprestimoResumo aposProduto = cursor == null || cursor.isBlank() ? null : decodificarCursor(cursor, ordenacao);
+
+        // Busca um item a mais para saber se existe próxima página sem uma consulta de contagem
+        List<ProdutoEmprestimoResumo> itens = simulacaoMetricas.medirConsulta("banco_buscar_pagina",
+            () -> produtoEmprestimoRepository.buscarPagina(ordenacao, crescente, aposProduto, tamanho + 1));
+        if (itens.size() <= tamanho) {
+            return new ProdutoEmprestimoPaginaResponse(itens, null);
         }
-        return produto;
+
+        List<ProdutoEmprestimoResumo> pagina = itens.subList(0, tamanho);
+        return new ProdutoEmprestimoPaginaResponse(List.copyOf(pagina), codificarCursor(ordenacao, pagina.get(tamanho - 1)));
+    }
+
+    /**
+     * Busca um produto por ID no catálogo em memória
+     */
+    public ProdutoEmprestimo buscarPorId(Long id) {
+        return simulacaoMetricas.medirConsulta("catalogo_buscar_por_id", () -> produtoEmprestimoCatalogo.buscarPorId(id))
+            .orElseThrow(() -> new NotFoundException("Produto não encontrado com ID: " + id));
     }
 
     /**
@@ -50,19 +133,50 @@ public class ProdutoEmprestimoService {
             request.getPrazoMaximoMeses()
         );
         produtoEmprestimoRepository.persist(produto);
+        aposConfirmacao(() -> produtoEmprestimoCatalogo.registrar(produto));
         return produto;
     }
 
     /**
-     * Atualiza um produto existente
+     * Atualiza um produto existente, independentemente da versão atual
      */
     @Transactional
     public ProdutoEmprestimo atualizar(Long id, ProdutoEmprestimoRequest request) {
-        ProdutoEmprestimo produto = buscarPorId(id);
-        produto.nome = request.getNome();
-        produto.taxaJurosAnual = request.getTaxaJurosAnual();
-        produto.prazoMaximoMeses = request.getPrazoMaximoMeses();
-        produtoEmprestimoRepository.persist(produto);
+        return atualizar(id, request, null);
+    }
+
+    /**
+     * Atualiza um produto com uma única instrução UPDATE condicional. Quando a versão
+     * esperada é informada e já não é a atual, a atualização é rejeitada com 412 em vez
+     * de sobrescrever a alteração concorrente.
+     */
+    @Transactional
+    public ProdutoEmprestimo atualizar(Long id, ProdutoEmprestimoRequest request, Long versaoEsperada) {
+        Instant atualizadoEm = Instant.now();
+        int alterados = produtoEmprestimoRepository.atualizarDados(id, request.getNome(), request.getTaxaJurosAnual(),
+            request.getPrazoMaximoMeses(), atualizadoEm, versaoEsperada);
+        if (alterados == 0) {
+            // Nenhuma linha alterada: o produto não existe (404) ou a versão já mudou (412)
+            buscarEntidade(id);
+            throw new ClientErrorException("Produto " + id + " foi alterado por outra requisição; versão esperada: "
+                + versaoEsperada, Response.Status.PRECONDITION_FAILED);
+        }
+
+        ProdutoEmprestimo produto;
+        if (versaoEsperada != null) {
+            // A instrução só alterou a linha na versão esperada, então o estado gravado é conhecido
+            produto = new ProdutoEmprestimo(request.getNome(), request.getTaxaJurosAnual(), request.getPrazoMaximoMeses());
+            produto.id = id;
+            produto.versao = versaoEsperada + 1;
+            produto.atualizadoEm = atualizadoEm;
+        } else {
+            produto = buscarEntidade(id);
+        }
+        aposConfirmacao(() -> {
+            produtoEmprestimoCatalogo.registrar(produto);
+            calculoJurosService.invalidarTabela(id);
+            simulacaoCache.invalidar(id);
+        });
         return produto;
     }
 
@@ -71,15 +185,303 @@ public class ProdutoEmprestimoService {
      */
     @Transactional
     public void remover(Long id) {
-        ProdutoEmprestimo produto = buscarPorId(id);
+        ProdutoEmprestimo produto = buscarEntidade(id);
         produtoEmprestimoRepository.delete(produto);
+        aposConfirmacao(() -> {
+            produtoEmprestimoCatalogo.remover(id);
+            calculoJurosService.invalidarTabela(id);
+            simulacaoCache.invalidar(id);
+        });
+    }
+
+    /**
+     * Executa a ação somente depois que a transação atual for confirmada, para que o
+     * catálogo e os caches em memória nunca guardem uma escrita desfeita pelo banco
+     */
+    private void aposConfirmacao(Runnable acao) {
+        transacoes.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    acao.run();
+                }
+            }
+        });
     }
 
     /**
-     * Simula um empréstimo baseado no produto e parâmetros fornecidos
+     * Simula um empréstimo baseado no produto e parâmetros fornecidos. Requisições
+     * repetidas são servidas pelo cache de simulações.
      */
     public SimulacaoEmprestimoResponse simularEmprestimo(SimulacaoEmprestimoRequest request) {
-        ProdutoEmprestimo produto = buscarPorId(request.getIdProduto());
-        return calculoJurosService.simularEmprestimo(produto, request.getValorSolicitado(), request.getPrazoMeses());
+        // O tempo inclui os acertos do cache; a busca do produto fica dentro da medição,
+        // que já contabiliza a falha quando ele não existe
+        return simulacaoMetricas.medirSimulacao(OPERACAO_COMPLETA, request.getPrazoMeses(), () ->
+            simulacaoCache.obter(request, () -> {
+                ProdutoEmprestimo produto = buscarPorId(request.getIdProduto());
+                return calculoJurosService.simularEmprestimo(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                    request.getSistemaAmortizacao());
+            }));
+    }
+
+    /**
+     * Simula um empréstimo com o detalhamento restrito a uma janela de meses, para quem
+     * exibe o cronograma em páginas. Sem mês inicial a janela começa no primeiro mês e sem
+     * mês final vai até o fim do prazo; sem nenhum dos dois, é a simulação completa.
+     */
+    public SimulacaoEmprestimoResponse simularEmprestimo(SimulacaoEmprestimoRequest request,
+                                                         Integer mesInicial, Integer mesFinal) {
+        if (mesInicial == null && mesFinal == null) {
+            return simularEmprestimo(request);
+        }
+        int primeiroMes = mesInicial == null ? 1 : validarMes(mesInicial);
+        int ultimoMes = mesFinal == null ? request.getPrazoMeses() : validarMes(mesFinal);
+        validarIntervalo(request, primeiroMes, ultimoMes);
+
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_INTERVALO, request.getIdProduto());
+        return simulacaoMetricas.medirSimulacao(OPERACAO_INTERVALO, request.getPrazoMeses(), () ->
+            calculoJurosService.simularEmprestimo(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                request.getSistemaAmortizacao(), primeiroMes, ultimoMes));
+    }
+
+    /**
+     * Simula um empréstimo retornando apenas o resumo, sem detalhamento mensal
+     */
+    public SimulacaoResumoResponse simularResumo(SimulacaoEmprestimoRequest request) {
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_RESUMO, request.getIdProduto());
+        return simulacaoMetricas.medirSimulacao(OPERACAO_RESUMO, request.getPrazoMeses(), () ->
+            calculoJurosService.simularResumo(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                request.getSistemaAmortizacao()));
+    }
+
+    /**
+     * Calcula o maior valor que cabe na parcela desejada dentro do prazo, pelo sistema
+     * Price, e retorna o resumo da simulação desse valor
+     */
+    public SimulacaoResumoResponse calcularValorMaximo(ValorMaximoRequest request) {
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_VALOR_MAXIMO, request.getIdProduto());
+        return simulacaoMetricas.medirSimulacao(OPERACAO_VALOR_MAXIMO, request.getPrazoMeses(), () -> {
+            BigDecimal valorMaximo = resolver(() ->
+                calculoJurosService.calcularValorMaximo(produto, request.getValorParcela(), request.getPrazoMeses()));
+            return calculoJurosService.simularResumo(produto, valorMaximo, request.getPrazoMeses(), SistemaAmortizacao.PRICE);
+        });
+    }
+
+    /**
+     * Calcula o menor prazo, até o prazo máximo do produto, em que o valor solicitado cabe
+     * na parcela desejada, pelo sistema Price, e retorna o resumo da simulação nesse prazo
+     */
+    public SimulacaoResumoResponse calcularPrazoMinimo(PrazoMinimoRequest request) {
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_PRAZO_MINIMO, request.getIdProduto());
+        return simulacaoMetricas.medirSimulacao(OPERACAO_PRAZO_MINIMO, produto.prazoMaximoMeses, () -> {
+            int prazoMinimo = resolver(() ->
+                calculoJurosService.calcularPrazoMinimo(produto, request.getValorSolicitado(), request.getValorParcela()));
+            return calculoJurosService.simularResumo(produto, request.getValorSolicitado(), prazoMinimo, SistemaAmortizacao.PRICE);
+        });
+    }
+
+    /**
+     * Simula o mesmo valor e prazo em todos os produtos do catálogo cujo prazo máximo
+     * comporta o prazo pedido e retorna os resumos do menor para o maior custo total. Com
+     * limite, retorna apenas os limite produtos mais baratos. O catálogo tem poucos produtos,
+     * então a comparação roda na própria thread da requisição.
+     */
+    public List<SimulacaoResumoResponse> compararProdutos(ComparacaoProdutosRequest request, Integer limite) {
+        if (limite != null && limite < 1) {
+            throw new BadRequestException("Limite da comparação deve ser positivo");
+        }
+        int prazoMeses = request.getPrazoMeses();
+        List<ProdutoEmprestimo> produtos = listarTodos();
+
+        Stream<SimulacaoResumoResponse> resumos = produtos.stream()
+            .filter(produto -> produto.prazoMaximoMeses != null && produto.prazoMaximoMeses >= prazoMeses)
+            .map(produto -> simulacaoMetricas.medirSimulacao(OPERACAO_COMPARACAO, prazoMeses, () ->
+                calculoJurosService.simularResumo(produto, request.getValorSolicitado(), prazoMeses,
+                    request.getSistemaAmortizacao())))
+            .sorted(ORDEM_COMPARACAO);
+        return (limite == null ? resumos : resumos.limit(limite)).toList();
+    }
+
+    /**
+     * Parâmetros sem solução (prazo acima do máximo, parcela pequena demais) são erro do cliente
+     */
+    private static <T> T resolver(Supplier<T> calculo) {
+        try {
+            return calculo.get();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    /**
+     * Simula um empréstimo retornando o detalhamento mês a mês sob demanda,
+     * para ser transmitido à medida que cada mês é calculado
+     */
+    public Iterable<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularDetalhamentoMensal(SimulacaoEmprestimoRequest request) {
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_DETALHAMENTO, request.getIdProduto());
+        try {
+            return calculoJurosService.simularDetalhamentoMensal(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                request.getSistemaAmortizacao());
+        } catch (RuntimeException e) {
+            simulacaoMetricas.registrarErro(OPERACAO_DETALHAMENTO, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Simula apenas os meses de mesInicial a mesFinal do cronograma, sem gerar os demais.
+     * Sem mês final, retorna só o mês inicial.
+     */
+    public List<SimulacaoEmprestimoResponse.DetalhamentoMensal> simularIntervalo(SimulacaoEmprestimoRequest request,
+                                                                                Integer mesInicial, Integer mesFinal) {
+        int primeiroMes = validarMes(mesInicial);
+        int ultimoMes = mesFinal == null ? primeiroMes : validarMes(mesFinal);
+        validarIntervalo(request, primeiroMes, ultimoMes);
+
+        ProdutoEmprestimo produto = buscarProdutoParaSimulacao(OPERACAO_INTERVALO, request.getIdProduto());
+        return simulacaoMetricas.medirSimulacao(OPERACAO_INTERVALO, request.getPrazoMeses(), () ->
+            calculoJurosService.simularIntervalo(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                request.getSistemaAmortizacao(), primeiroMes, ultimoMes));
+    }
+
+    private static void validarIntervalo(SimulacaoEmprestimoRequest request, int primeiroMes, int ultimoMes) {
+        if (ultimoMes < primeiroMes || ultimoMes > request.getPrazoMeses()) {
+            throw new BadRequestException("Intervalo de meses deve estar entre 1 e o prazo de "
+                + request.getPrazoMeses() + " meses, com o mês inicial antes do final");
+        }
+    }
+
+    private static int validarMes(Integer mes) {
+        if (mes == null || mes < 1) {
+            throw new BadRequestException("Mês do cronograma deve ser informado e positivo");
+        }
+        return mes;
+    }
+
+    /**
+     * Simula um lote de empréstimos em paralelo, no pool dedicado a lotes. Os produtos
+     * referenciados são resolvidos de uma só vez, a ordem das requisições é preservada e
+     * a falha de um item é registrada no próprio item sem interromper o restante do lote.
+     */
+    public List<SimulacaoLoteItemResponse> simularLote(List<SimulacaoEmprestimoRequest> requests) {
+        List<Long> ids = requests.stream()
+            .filter(Objects::nonNull)
+            .map(SimulacaoEmprestimoRequest::getIdProduto)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Map<Long, ProdutoEmprestimo> produtos = simulacaoMetricas.medirConsulta("catalogo_buscar_por_ids",
+            () -> produtoEmprestimoCatalogo.buscarPorIds(ids));
+
+        List<CompletableFuture<SimulacaoLoteItemResponse>> itens = IntStream.range(0, requests.size())
+            .mapToObj(indice -> CompletableFuture.supplyAsync(
+                () -> simularItemDoLote(indice, requests.get(indice), produtos), executorSimulacaoLote))
+            .toList();
+        return itens.stream().map(CompletableFuture::join).toList();
+    }
+
+    private SimulacaoLoteItemResponse simularItemDoLote(int indice, SimulacaoEmprestimoRequest request,
+                                                        Map<Long, ProdutoEmprestimo> produtos) {
+        if (request == null) {
+            return SimulacaoLoteItemResponse.falha(indice, "Requisição de simulação é obrigatória");
+        }
+        if (request.getIdProduto() == null) {
+            return SimulacaoLoteItemResponse.falha(indice, "ID do produto é obrigatório");
+        }
+        if (request.getPrazoMeses() == null) {
+            return SimulacaoLoteItemResponse.falha(indice, "Prazo em meses é obrigatório");
+        }
+
+        ProdutoEmprestimo produto = produtos.get(request.getIdProduto());
+        if (produto == null) {
+            return SimulacaoLoteItemResponse.falha(indice, "Produto não encontrado com ID: " + request.getIdProduto());
+        }
+
+        try {
+            return SimulacaoLoteItemResponse.sucesso(indice,
+                simulacaoMetricas.medirSimulacao(OPERACAO_LOTE, request.getPrazoMeses(), () ->
+                    calculoJurosService.simularEmprestimo(produto, request.getValorSolicitado(), request.getPrazoMeses(),
+                        request.getSistemaAmortizacao())));
+        } catch (RuntimeException e) {
+            return SimulacaoLoteItemResponse.falha(indice, e.getMessage());
+        }
+    }
+
+    private static boolean lerDirecao(String direcao) {
+        if (direcao == null || "asc".equalsIgnoreCase(direcao)) {
+            return true;
+        }
+        if ("desc".equalsIgnoreCase(direcao)) {
+            return false;
+        }
+        throw new BadRequestException("Direção de ordenação inválida: " + direcao);
+    }
+
+    /**
+     * Codifica a ordenação, o ID e o valor de ordenação do último item da página
+     * em um cursor opaco para a requisição seguinte
+     */
+    static String codificarCursor(OrdenacaoProduto ordenacao, ProdutoEmprestimoResumo ultimo) {
+        String valor = switch (ordenacao) {
+            case ID -> "";
+            case NOME -> ultimo.nome;
+            case TAXA -> ultimo.taxaJurosAnual.toPlainString();
+        };
+        String conteudo = ordenacao.getParametro() + SEPARADOR_CURSOR + ultimo.id + SEPARADOR_CURSOR + valor;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reconstrói a chave do último item a partir do cursor, rejeitando cursores
+     * malformados ou gerados para outra ordenação
+     */
+    static ProdutoEmprestimoResumo decodificarCursor(String cursor, OrdenacaoProduto ordenacao) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = conteudo.split("\\" + SEPARADOR_CURSOR, 3);
+            if (partes.length != 3 || !ordenacao.getParametro().equals(partes[0])) {
+                throw new BadRequestException("Cursor de paginação inválido");
+            }
+
+            ProdutoEmprestimoResumo produto = new ProdutoEmprestimoResumo();
+            produto.id = Long.valueOf(partes[1]);
+            switch (ordenacao) {
+                case NOME -> produto.nome = partes[2];
+                case TAXA -> produto.taxaJurosAnual = new BigDecimal(partes[2]);
+                default -> { }
+            }
+            return produto;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor de paginação inválido");
+        }
+    }
+
+    /**
+     * Resolve o produto de uma simulação, contabilizando como erro da operação
+     * quando o produto não existe
+     */
+    private ProdutoEmprestimo buscarProdutoParaSimulacao(String operacao, Long idProduto) {
+        try {
+            return buscarPorId(idProduto);
+        } catch (NotFoundException e) {
+            simulacaoMetricas.registrarErro(operacao, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Busca a entidade gerenciada no repositório, usada pelas operações de escrita
+     */
+    private ProdutoEmprestimo buscarEntidade(Long id) {
+        ProdutoEmprestimo produto = simulacaoMetricas.medirConsulta("banco_buscar_por_id",
+            () -> produtoEmprestimoRepository.findById(id));
+        if (produto == null) {
+            throw new NotFoundException("Produto não encontrado com ID: " + id);
+        }
+        return produto;
     }
 }
@@ -0,0 +1,105 @@
+package com.caixa.service;
+
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.model.SistemaAmortizacao;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache limitado dos resultados de simulação completa, com expiração por tempo de escrita.
+ * A chave é a requisição canônica (produto, valor com a sua escala, prazo e sistema de
+ * amortização) acrescida da geração do produto. A escala faz parte da chave porque o
+ * cálculo a preserva na resposta: "10000.000" e "10000.00" são simulações distintas.
+ * Ao invalidar um produto a geração avança, de modo que uma simulação iniciada antes da
+ * atualização nunca é servida depois dela.
+ * <p>
+ * O limite é dado em meses de cronograma, não em entradas: cada mês da memória de cálculo
+ * custa em torno de 250 bytes (o detalhamento e seus quatro BigDecimal), então uma
+ * simulação de 360 meses pesa cerca de 90 KB e o padrão de 200 mil meses limita o cache
+ * a aproximadamente 50 MB.
+ */
+@ApplicationScoped
+public class SimulacaoCache {
+
+    private final Cache<ChaveSimulacao, SimulacaoEmprestimoResponse> resultados;
+    private final ConcurrentMap<Long, Long> geracoes = new ConcurrentHashMap<>();
+    private final SimulacaoMetricas simulacaoMetricas;
+
+    @Inject
+    public SimulacaoCache(@ConfigProperty(name = "caixa.simulacao.cache.meses-maximo", defaultValue = "200000") long mesesMaximo,
+                          @ConfigProperty(name = "caixa.simulacao.cache.expiracao", defaultValue = "PT10M") Duration expiracao,
+                          SimulacaoMetricas simulacaoMetricas) {
+        this(mesesMaximo, expiracao, simulacaoMetricas, Ticker.systemTicker());
+    }
+
+    SimulacaoCache(long mesesMaximo, Duration expiracao, SimulacaoMetricas simulacaoMetricas, Ticker relogio) {
+        this.resultados = Caffeine.newBuilder()
+            .maximumWeight(mesesMaximo)
+            .weigher(SimulacaoCache::pesar)
+            .expireAfterWrite(expiracao)
+            .ticker(relogio)
+            .executor(Runnable::run)
+            .build();
+        this.simulacaoMetricas = simulacaoMetricas;
+    }
+
+    /**
+     * Retorna a simulação em cache para a requisição ou a calcula e armazena. Falhas não
+     * são armazenadas, e requisições incompletas são sempre calculadas.
+     */
+    public SimulacaoEmprestimoResponse obter(SimulacaoEmprestimoRequest request, Supplier<SimulacaoEmprestimoResponse> simulacao) {
+        if (request.getIdProduto() == null || request.getValorSolicitado() == null || request.getPrazoMeses() == null) {
+            return simulacao.get();
+        }
+
+        // A geração é lida antes do produto ser resolvido pela simulação
+        ChaveSimulacao chave = new ChaveSimulacao(
+            request.getIdProduto(),
+            geracoes.getOrDefault(request.getIdProduto(), 0L),
+            request.getValorSolicitado(),
+            request.getPrazoMeses(),
+            request.getSistemaAmortizacao() == null ? SistemaAmortizacao.PRICE : request.getSistemaAmortizacao());
+
+        SimulacaoEmprestimoResponse resposta = resultados.getIfPresent(chave);
+        simulacaoMetricas.registrarAcessoCache(resposta != null);
+        if (resposta == null) {
+            resposta = resultados.get(chave, ignorada -> simulacao.get());
+        }
+        return resposta;
+    }
+
+    /**
+     * Descarta as simulações do produto, chamado quando ele é atualizado ou removido
+     */
+    public void invalidar(Long idProduto) {
+        geracoes.merge(idProduto, 1L, Long::sum);
+        resultados.asMap().keySet().removeIf(chave -> chave.idProduto().equals(idProduto));
+    }
+
+    /**
+     * Peso da simulação em meses de cronograma; mesmo sem cronograma a entrada conta um
+     */
+    private static int pesar(ChaveSimulacao chave, SimulacaoEmprestimoResponse resposta) {
+        return resposta.memoriaCalculo == null ? 1 : Math.max(1, resposta.memoriaCalculo.size());
+    }
+
+    long tamanho() {
+        resultados.cleanUp();
+        return resultados.estimatedSize();
+    }
+
+    private record ChaveSimulacao(Long idProduto, long geracao, BigDecimal valorSolicitado, Integer prazoMeses,
+                                  SistemaAmortizacao sistemaAmortizacao) {
+    }
+}
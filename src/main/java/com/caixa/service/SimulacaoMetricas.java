@@ -0,0 +1,145 @@
+package com.caixa.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Instrumentação Micrometer dos caminhos quentes de simulação e consulta de produtos.
+ * Os tags têm cardinalidade limitada: o prazo é agrupado em faixas e o produto não é
+ * um tag, já que cada ID multiplicaria as séries do histograma.
+ */
+@ApplicationScoped
+public class SimulacaoMetricas {
+
+    static final String SIMULACAO_DURACAO = "simulacao.duracao";
+    static final String SIMULACAO_ERROS = "simulacao.erros";
+    static final String CRONOGRAMA_DURACAO = "simulacao.cronograma.duracao";
+    static final String CONSULTA_DURACAO = "produto.consulta.duracao";
+    static final String CACHE_ACESSOS = "simulacao.cache.acessos";
+
+    private static final Duration MENOR_DURACAO_ESPERADA = Duration.ofNanos(10_000);
+    private static final Duration MAIOR_DURACAO_ESPERADA = Duration.ofSeconds(5);
+
+    private final MeterRegistry registry;
+
+    @Inject
+    public SimulacaoMetricas(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Métricas sem nenhum registro associado, para uso fora do container (testes e benchmarks)
+     */
+    public static SimulacaoMetricas semRegistro() {
+        return new SimulacaoMetricas(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Mede a latência de uma simulação por operação e faixa de prazo, contabilizando a
+     * exceção quando a simulação falha
+     */
+    public <T> T medirSimulacao(String operacao, Integer prazoMeses, Supplier<T> simulacao) {
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = "erro";
+        try {
+            T resposta = simulacao.get();
+            resultado = "sucesso";
+            return resposta;
+        } catch (RuntimeException e) {
+            registrarErro(operacao, e);
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(SIMULACAO_DURACAO)
+                .description("Latência das simulações de empréstimo")
+                .tag("operacao", operacao)
+                .tag("faixa_prazo", faixaPrazo(prazoMeses))
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MENOR_DURACAO_ESPERADA)
+                .maximumExpectedValue(MAIOR_DURACAO_ESPERADA)
+                .register(registry));
+        }
+    }
+
+    /**
+     * Contabiliza uma falha de simulação pelo tipo da exceção
+     */
+    public void registrarErro(String operacao, Throwable erro) {
+        Counter.builder(SIMULACAO_ERROS)
+            .description("Simulações de empréstimo que falharam, por tipo de exceção")
+            .tag("operacao", operacao)
+            .tag("excecao", erro.getClass().getSimpleName())
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Contabiliza um acesso ao cache de simulações como acerto ou falha
+     */
+    public void registrarAcessoCache(boolean acerto) {
+        Counter.builder(CACHE_ACESSOS)
+            .description("Acessos ao cache de resultados de simulação")
+            .tag("resultado", acerto ? "acerto" : "falha")
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * Mede o tempo de geração do cronograma mês a mês
+     */
+    public <T> T medirCronograma(Supplier<T> geracao) {
+        return Timer.builder(CRONOGRAMA_DURACAO)
+            .description("Tempo de geração do detalhamento mensal")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MENOR_DURACAO_ESPERADA)
+            .maximumExpectedValue(MAIOR_DURACAO_ESPERADA)
+            .register(registry)
+            .record(geracao);
+    }
+
+    /**
+     * Mede o tempo de uma consulta de produtos, no catálogo em memória ou no banco
+     */
+    public <T> T medirConsulta(String consulta, Supplier<T> execucao) {
+        return Timer.builder(CONSULTA_DURACAO)
+            .description("Tempo das consultas de produtos de empréstimo")
+            .tag("consulta", consulta)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(MENOR_DURACAO_ESPERADA)
+            .maximumExpectedValue(MAIOR_DURACAO_ESPERADA)
+            .register(registry)
+            .record(execucao);
+    }
+
+    /**
+     * Agrupa o prazo em faixas fixas para manter a cardinalidade das séries baixa
+     */
+    static String faixaPrazo(Integer prazoMeses) {
+        if (prazoMeses == null || prazoMeses <= 0) {
+            return "invalido";
+        }
+        if (prazoMeses <= 12) {
+            return "ate_12";
+        }
+        if (prazoMeses <= 36) {
+            return "13_a_36";
+        }
+        if (prazoMeses <= 60) {
+            return "37_a_60";
+        }
+        if (prazoMeses <= 120) {
+            return "61_a_120";
+        }
+        if (prazoMeses <= 360) {
+            return "121_a_360";
+        }
+        return "acima_360";
+    }
+}
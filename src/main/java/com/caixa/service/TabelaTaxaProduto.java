@@ -0,0 +1,50 @@
+package com.caixa.service;
+
+import java.math.BigDecimal;
+
+import com.caixa.model.ProdutoEmprestimo;
+
+/**
+ * Tabela pré-calculada das taxas de um produto: taxa efetiva mensal e a linha de
+ * fatores Price (sem escala, com {@value GradeFatoresPrice#ESCALA_FATOR} casas) que
+ * cobre todos os prazos até o prazo máximo. Normalmente a linha é a da grade global.
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+final class TabelaTaxaProduto {
+
+    private final BigDecimal taxaJurosAnual;
+    private final int prazoMaximoMeses;
+    private final BigDecimal taxaJurosEfetivaMensal;
+    private final long[] fatores;
+
+    TabelaTaxaProduto(BigDecimal taxaJurosAnual, int prazoMaximoMeses, BigDecimal taxaJurosEfetivaMensal,
+                      long[] fatores) {
+        this.taxaJurosAnual = taxaJurosAnual;
+        this.prazoMaximoMeses = prazoMaximoMeses;
+        this.taxaJurosEfetivaMensal = taxaJurosEfetivaMensal;
+        this.fatores = fatores;
+    }
+
+    /**
+     * Indica se a tabela ainda reflete a taxa e o prazo máximo atuais do produto
+     */
+    boolean correspondeA(ProdutoEmprestimo produto) {
+        return taxaJurosAnual.compareTo(produto.taxaJurosAnual) == 0
+            && prazoMaximoMeses == produto.prazoMaximoMeses;
+    }
+
+    BigDecimal getTaxaJurosEfetivaMensal() {
+        return taxaJurosEfetivaMensal;
+    }
+
+    int getPrazoMaximoMeses() {
+        return prazoMaximoMeses;
+    }
+
+    /**
+     * Retorna o fator Price para o prazo, ou null quando a taxa mensal é zero
+     */
+    BigDecimal fator(int prazoMeses) {
+        return fatores == null ? null : BigDecimal.valueOf(fatores[prazoMeses], GradeFatoresPrice.ESCALA_FATOR);
+    }
+}
@@ -1,6 +1,6 @@
 -- Script de inicialização de dados para o banco H2
-INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses) VALUES (1, 'Empréstimo Pessoal', 18.00, 60);
-INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses) VALUES (2, 'Empréstimo Consignado', 12.00, 84);
-INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses) VALUES (3, 'Empréstimo Imobiliário', 8.50, 360);
-INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses) VALUES (4, 'Empréstimo Veicular', 15.00, 48);
-INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses) VALUES (5, 'Empréstimo Empresarial', 22.00, 24);
+INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses, versao, atualizado_em) VALUES (1, 'Empréstimo Pessoal', 18.00, 60, 0, '2024-01-01 00:00:00+00');
+INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses, versao, atualizado_em) VALUES (2, 'Empréstimo Consignado', 12.00, 84, 0, '2024-01-01 00:00:00+00');
+INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses, versao, atualizado_em) VALUES (3, 'Empréstimo Imobiliário', 8.50, 360, 0, '2024-01-01 00:00:00+00');
+INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses, versao, atualizado_em) VALUES (4, 'Empréstimo Veicular', 15.00, 48, 0, '2024-01-01 00:00:00+00');
+INSERT INTO produto_emprestimo (id, nome, taxa_juros_anual, prazo_maximo_meses, versao, atualizado_em) VALUES (5, 'Empréstimo Empresarial', 22.00, 24, 0, '2024-01-01 00:00:00+00');
@@ -1,21 +1,34 @@
 package com.caixa.controller;
 
+import io.smallrye.health.SmallRyeHealth;
+import io.smallrye.health.SmallRyeHealthReporter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HealthCheckControllerTest {
 
+    @Mock
+    private SmallRyeHealthReporter healthReporter;
+
+    @Mock
+    private SmallRyeHealth prontidao;
+
     @InjectMocks
     private HealthCheckController healthCheckController;
 
     @Test
     void testHealthCheck() {
+        when(healthReporter.getReadiness()).thenReturn(prontidao);
+        when(prontidao.isDown()).thenReturn(false);
+
         var resultado = healthCheckController.healthCheck();
         
         assertNotNull(resultado);
@@ -23,6 +36,17 @@ class HealthCheckControllerTest {
         assertNotNull(resultado.getEntity());
     }
 
+    @Test
+    void testHealthCheckIndisponivel() {
+        when(healthReporter.getReadiness()).thenReturn(prontidao);
+        when(prontidao.isDown()).thenReturn(true);
+
+        var resultado = healthCheckController.healthCheck();
+
+        assertEquals(503, resultado.getStatus());
+        assertEquals("DOWN", ((HealthCheckController.HealthStatus) resultado.getEntity()).getStatus());
+    }
+
     @Test
     @DisplayName("Deve testar HealthStatus - construtor padrão")
     void deveTestarHealthStatusConstrutorPadrao() {
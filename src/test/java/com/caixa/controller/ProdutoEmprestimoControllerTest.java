@@ -1,10 +1,24 @@
 package com.caixa.controller;
 
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
 import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.ProdutoEmprestimoResumo;
 import com.caixa.dto.SimulacaoEmprestimoRequest;
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.VersaoCatalogo;
 import com.caixa.service.ProdutoEmprestimoService;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,8 +26,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +44,9 @@ class ProdutoEmprestimoControllerTest {
     @Mock
     private ProdutoEmprestimoService produtoEmprestimoService;
 
+    @Mock
+    private Request request;
+
     @InjectMocks
     private ProdutoEmprestimoController produtoEmprestimoController;
 
@@ -34,6 +54,7 @@ class ProdutoEmprestimoControllerTest {
     private ProdutoEmprestimoRequest produtoRequest;
     private SimulacaoEmprestimoRequest simulacaoRequest;
     private SimulacaoEmprestimoResponse simulacaoResponse;
+    private final VersaoCatalogo versaoCatalogo = new VersaoCatalogo("3f2a9c", Instant.parse("2024-03-10T12:30:45.123Z"));
 
     @BeforeEach
     void setUp() {
@@ -42,6 +63,8 @@ class ProdutoEmprestimoControllerTest {
         produto.nome = "Empréstimo Teste";
         produto.taxaJurosAnual = new BigDecimal("12.00");
         produto.prazoMaximoMeses = 24;
+        produto.versao = 2L;
+        produto.atualizadoEm = Instant.parse("2024-03-10T12:30:45.123Z");
 
         produtoRequest = new ProdutoEmprestimoRequest();
         produtoRequest.setNome("Empréstimo Teste");
@@ -61,15 +84,45 @@ class ProdutoEmprestimoControllerTest {
     @Test
     void testListarTodos() {
         List<ProdutoEmprestimo> produtos = Arrays.asList(produto);
+        when(produtoEmprestimoService.obterVersaoCatalogo()).thenReturn(versaoCatalogo);
         when(produtoEmprestimoService.listarTodos()).thenReturn(produtos);
 
-        var resultado = produtoEmprestimoController.listarTodos();
+        var resultado = produtoEmprestimoController.listarTodos(request);
 
         assertNotNull(resultado);
         assertEquals(200, resultado.getStatus());
+        assertEquals(new EntityTag("catalogo-3f2a9c"), resultado.getEntityTag());
+        assertEquals(Date.from(Instant.parse("2024-03-10T12:30:45Z")), resultado.getLastModified());
         verify(produtoEmprestimoService, times(1)).listarTodos();
     }
 
+    @Test
+    void testListarTodosNaoModificado() {
+        when(produtoEmprestimoService.obterVersaoCatalogo()).thenReturn(versaoCatalogo);
+        when(request.evaluatePreconditions(any(Date.class), eq(new EntityTag("catalogo-3f2a9c"))))
+            .thenReturn(Response.notModified());
+
+        var resultado = produtoEmprestimoController.listarTodos(request);
+
+        assertEquals(304, resultado.getStatus());
+        assertNull(resultado.getEntity());
+        assertEquals(new EntityTag("catalogo-3f2a9c"), resultado.getEntityTag());
+        verify(produtoEmprestimoService, never()).listarTodos();
+    }
+
+    @Test
+    void testListarPagina() {
+        ProdutoEmprestimoPaginaResponse pagina = new ProdutoEmprestimoPaginaResponse(
+            List.of(new ProdutoEmprestimoResumo(1L, "Empréstimo Teste", new BigDecimal("12.00"))), null);
+        when(produtoEmprestimoService.listarPagina("nome", "asc", null, 20)).thenReturn(pagina);
+
+        var resultado = produtoEmprestimoController.listarPagina("nome", "asc", null, 20);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(pagina, resultado.getEntity());
+        verify(produtoEmprestimoService, times(1)).listarPagina("nome", "asc", null, 20);
+    }
+
     @Test
     void testCriar() {
         when(produtoEmprestimoService.criar(any(ProdutoEmprestimoRequest.class))).thenReturn(produto);
@@ -85,22 +138,64 @@ class ProdutoEmprestimoControllerTest {
     void testBuscarPorId() {
         when(produtoEmprestimoService.buscarPorId(1L)).thenReturn(produto);
 
-        var resultado = produtoEmprestimoController.buscarPorId(1L);
+        var resultado = produtoEmprestimoController.buscarPorId(1L, request);
 
         assertNotNull(resultado);
         assertEquals(200, resultado.getStatus());
+        assertEquals(new EntityTag("produto-1-2"), resultado.getEntityTag());
         verify(produtoEmprestimoService, times(1)).buscarPorId(1L);
     }
 
+    @Test
+    void testBuscarPorIdNaoModificado() {
+        when(produtoEmprestimoService.buscarPorId(1L)).thenReturn(produto);
+        when(request.evaluatePreconditions(any(Date.class), eq(new EntityTag("produto-1-2"))))
+            .thenReturn(Response.notModified());
+
+        var resultado = produtoEmprestimoController.buscarPorId(1L, request);
+
+        assertEquals(304, resultado.getStatus());
+        assertNull(resultado.getEntity());
+    }
+
     @Test
     void testAtualizar() {
-        when(produtoEmprestimoService.atualizar(eq(1L), any(ProdutoEmprestimoRequest.class))).thenReturn(produto);
+        when(produtoEmprestimoService.atualizar(eq(1L), any(ProdutoEmprestimoRequest.class), isNull())).thenReturn(produto);
 
-        var resultado = produtoEmprestimoController.atualizar(1L, produtoRequest);
+        var resultado = produtoEmprestimoController.atualizar(1L, null, produtoRequest);
 
         assertNotNull(resultado);
         assertEquals(200, resultado.getStatus());
-        verify(produtoEmprestimoService, times(1)).atualizar(1L, produtoRequest);
+        assertEquals(new EntityTag("produto-1-2"), resultado.getEntityTag());
+        verify(produtoEmprestimoService, times(1)).atualizar(1L, produtoRequest, null);
+    }
+
+    @Test
+    void testAtualizarComIfMatch() {
+        when(produtoEmprestimoService.atualizar(1L, produtoRequest, 1L)).thenReturn(produto);
+
+        var resultado = produtoEmprestimoController.atualizar(1L, "W/\"outra\", \"produto-1-1\"", produtoRequest);
+
+        assertEquals(200, resultado.getStatus());
+        assertEquals(new EntityTag("produto-1-2"), resultado.getEntityTag());
+    }
+
+    @Test
+    void testAtualizarComIfMatchDeOutroRecurso() {
+        ClientErrorException erro = assertThrows(ClientErrorException.class,
+            () -> produtoEmprestimoController.atualizar(1L, "\"produto-2-1\"", produtoRequest));
+
+        assertEquals(412, erro.getResponse().getStatus());
+        verifyNoInteractions(produtoEmprestimoService);
+    }
+
+    @Test
+    void testAtualizarComIfMatchCuringa() {
+        when(produtoEmprestimoService.atualizar(1L, produtoRequest, null)).thenReturn(produto);
+
+        var resultado = produtoEmprestimoController.atualizar(1L, "*", produtoRequest);
+
+        assertEquals(200, resultado.getStatus());
     }
 
     @Test
@@ -114,12 +209,126 @@ class ProdutoEmprestimoControllerTest {
 
     @Test
     void testSimularEmprestimo() {
-        when(produtoEmprestimoService.simularEmprestimo(any(SimulacaoEmprestimoRequest.class))).thenReturn(simulacaoResponse);
+        when(produtoEmprestimoService.simularEmprestimo(any(SimulacaoEmprestimoRequest.class), isNull(), isNull()))
+            .thenReturn(simulacaoResponse);
+
+        var resultado = produtoEmprestimoController.simularEmprestimo(null, null, simulacaoRequest);
+
+        assertNotNull(resultado);
+        assertEquals(200, resultado.getStatus());
+        verify(produtoEmprestimoService, times(1)).simularEmprestimo(simulacaoRequest, null, null);
+    }
+
+    @Test
+    void testSimularEmprestimoComJanelaDeMeses() {
+        when(produtoEmprestimoService.simularEmprestimo(simulacaoRequest, 13, 24)).thenReturn(simulacaoResponse);
+
+        var resultado = produtoEmprestimoController.simularEmprestimo(13, 24, simulacaoRequest);
 
-        var resultado = produtoEmprestimoController.simularEmprestimo(simulacaoRequest);
+        assertEquals(200, resultado.getStatus());
+        assertSame(simulacaoResponse, resultado.getEntity());
+    }
+
+    @Test
+    void testSimularLote() {
+        List<SimulacaoEmprestimoRequest> lote = List.of(simulacaoRequest);
+        List<SimulacaoLoteItemResponse> resultados = List.of(SimulacaoLoteItemResponse.sucesso(0, simulacaoResponse));
+        when(produtoEmprestimoService.simularLote(lote)).thenReturn(resultados);
+
+        var resultado = produtoEmprestimoController.simularLote(lote);
 
         assertNotNull(resultado);
         assertEquals(200, resultado.getStatus());
-        verify(produtoEmprestimoService, times(1)).simularEmprestimo(simulacaoRequest);
+        assertEquals(resultados, resultado.getEntity());
+        verify(produtoEmprestimoService, times(1)).simularLote(lote);
+    }
+
+    @Test
+    void testSimularDetalhamentoMensal() {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = List.of(
+            new SimulacaoEmprestimoResponse.DetalhamentoMensal(1, new BigDecimal("888.49"), new BigDecimal("100.00"),
+                new BigDecimal("788.49"), new BigDecimal("9211.51")),
+            new SimulacaoEmprestimoResponse.DetalhamentoMensal(2, new BigDecimal("888.49"), new BigDecimal("92.12"),
+                new BigDecimal("796.37"), new BigDecimal("8415.14"))
+        );
+        when(produtoEmprestimoService.simularDetalhamentoMensal(simulacaoRequest)).thenReturn(meses);
+
+        var resultado = produtoEmprestimoController.simularDetalhamentoMensal(simulacaoRequest)
+            .collect().asList().await().indefinitely();
+
+        assertEquals(meses, resultado);
+        verify(produtoEmprestimoService, times(1)).simularDetalhamentoMensal(simulacaoRequest);
+    }
+
+    @Test
+    void testSimularResumo() {
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoService.simularResumo(simulacaoRequest)).thenReturn(resumo);
+
+        var resultado = produtoEmprestimoController.simularResumo(simulacaoRequest);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumo, resultado.getEntity());
+        verify(produtoEmprestimoService, times(1)).simularResumo(simulacaoRequest);
+    }
+
+    @Test
+    void testCalcularValorMaximo() {
+        ValorMaximoRequest request = new ValorMaximoRequest(1L, new BigDecimal("1500.00"), 24);
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoService.calcularValorMaximo(request)).thenReturn(resumo);
+
+        var resultado = produtoEmprestimoController.calcularValorMaximo(request);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumo, resultado.getEntity());
+    }
+
+    @Test
+    void testCalcularPrazoMinimo() {
+        PrazoMinimoRequest request = new PrazoMinimoRequest(1L, new BigDecimal("10000.00"), new BigDecimal("1500.00"));
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoService.calcularPrazoMinimo(request)).thenReturn(resumo);
+
+        var resultado = produtoEmprestimoController.calcularPrazoMinimo(request);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumo, resultado.getEntity());
+    }
+
+    @Test
+    void testCompararProdutos() {
+        ComparacaoProdutosRequest request = new ComparacaoProdutosRequest(new BigDecimal("10000.00"), 24);
+        List<SimulacaoResumoResponse> resumos = List.of(new SimulacaoResumoResponse());
+        when(produtoEmprestimoService.compararProdutos(request, 3)).thenReturn(resumos);
+
+        var resultado = produtoEmprestimoController.compararProdutos(3, request);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumos, resultado.getEntity());
+    }
+
+    @Test
+    void testSimularIntervalo() {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = List.of(new SimulacaoEmprestimoResponse.DetalhamentoMensal());
+        when(produtoEmprestimoService.simularIntervalo(simulacaoRequest, 13, 24)).thenReturn(meses);
+
+        var resultado = produtoEmprestimoController.simularIntervalo(13, 24, simulacaoRequest);
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(meses, resultado.getEntity());
+    }
+
+    @Test
+    void testEndpointsBloqueantesRodamEmThreadsVirtuais() {
+        for (Method metodo : ProdutoEmprestimoController.class.getDeclaredMethods()) {
+            boolean endpoint = metodo.isAnnotationPresent(jakarta.ws.rs.GET.class)
+                || metodo.isAnnotationPresent(jakarta.ws.rs.POST.class)
+                || metodo.isAnnotationPresent(jakarta.ws.rs.PUT.class)
+                || metodo.isAnnotationPresent(jakarta.ws.rs.DELETE.class);
+            if (endpoint && !metodo.isAnnotationPresent(Blocking.class)) {
+                assertTrue(metodo.isAnnotationPresent(RunOnVirtualThread.class), metodo.getName());
+            }
+        }
     }
 }
@@ -0,0 +1,213 @@
+package com.caixa.controller;
+
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.VersaoCatalogo;
+import com.caixa.service.ProdutoEmprestimoReativoService;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProdutoEmprestimoReativoControllerTest {
+
+    @Mock
+    private ProdutoEmprestimoReativoService produtoEmprestimoReativoService;
+
+    @Mock
+    private Request request;
+
+    @InjectMocks
+    private ProdutoEmprestimoReativoController produtoEmprestimoReativoController;
+
+    private ProdutoEmprestimo produto;
+    private SimulacaoEmprestimoRequest simulacaoRequest;
+    private final VersaoCatalogo versaoCatalogo = new VersaoCatalogo("3f2a9c", Instant.parse("2024-03-10T12:30:45Z"));
+
+    @BeforeEach
+    void setUp() {
+        produto = new ProdutoEmprestimo("Empréstimo Teste", new BigDecimal("12.00"), 24);
+        produto.id = 1L;
+
+        simulacaoRequest = new SimulacaoEmprestimoRequest();
+        simulacaoRequest.setIdProduto(1L);
+        simulacaoRequest.setValorSolicitado(new BigDecimal("10000.00"));
+        simulacaoRequest.setPrazoMeses(12);
+    }
+
+    @Test
+    void testListarTodos() {
+        when(produtoEmprestimoReativoService.obterVersaoCatalogo()).thenReturn(Uni.createFrom().item(versaoCatalogo));
+        when(produtoEmprestimoReativoService.listarTodos()).thenReturn(Uni.createFrom().item(List.of(produto)));
+
+        Response resultado = produtoEmprestimoReativoController.listarTodos(request).await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertEquals(List.of(produto), resultado.getEntity());
+        assertEquals(new EntityTag("catalogo-3f2a9c"), resultado.getEntityTag());
+    }
+
+    @Test
+    void testListarTodosNaoModificado() {
+        when(produtoEmprestimoReativoService.obterVersaoCatalogo()).thenReturn(Uni.createFrom().item(versaoCatalogo));
+        when(request.evaluatePreconditions(any(Date.class), eq(new EntityTag("catalogo-3f2a9c"))))
+            .thenReturn(Response.notModified());
+
+        Response resultado = produtoEmprestimoReativoController.listarTodos(request).await().indefinitely();
+
+        assertEquals(304, resultado.getStatus());
+        verify(produtoEmprestimoReativoService, never()).listarTodos();
+    }
+
+    @Test
+    void testListarPagina() {
+        ProdutoEmprestimoPaginaResponse pagina = new ProdutoEmprestimoPaginaResponse(List.of(), null);
+        when(produtoEmprestimoReativoService.listarPagina("nome", "desc", null, 10))
+            .thenReturn(Uni.createFrom().item(pagina));
+
+        Response resultado = produtoEmprestimoReativoController.listarPagina("nome", "desc", null, 10)
+            .await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(pagina, resultado.getEntity());
+    }
+
+    @Test
+    void testBuscarPorIdNaoEncontrado() {
+        when(produtoEmprestimoReativoService.buscarPorId(99L))
+            .thenReturn(Uni.createFrom().failure(new NotFoundException("Produto não encontrado")));
+
+        assertThrows(NotFoundException.class,
+            () -> produtoEmprestimoReativoController.buscarPorId(99L, request).await().indefinitely());
+    }
+
+    @Test
+    void testCriar() {
+        ProdutoEmprestimoRequest request = new ProdutoEmprestimoRequest();
+        when(produtoEmprestimoReativoService.criar(request)).thenReturn(Uni.createFrom().item(produto));
+
+        Response resultado = produtoEmprestimoReativoController.criar(request).await().indefinitely();
+
+        assertEquals(201, resultado.getStatus());
+        assertSame(produto, resultado.getEntity());
+    }
+
+    @Test
+    void testRemover() {
+        when(produtoEmprestimoReativoService.remover(1L)).thenReturn(Uni.createFrom().voidItem());
+
+        Response resultado = produtoEmprestimoReativoController.remover(1L).await().indefinitely();
+
+        assertEquals(204, resultado.getStatus());
+    }
+
+    @Test
+    void testSimularResumo() {
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoReativoService.simularResumo(simulacaoRequest)).thenReturn(Uni.createFrom().item(resumo));
+
+        Response resultado = produtoEmprestimoReativoController.simularResumo(simulacaoRequest).await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumo, resultado.getEntity());
+    }
+
+    @Test
+    void testCalcularValorMaximoEPrazoMinimo() {
+        ValorMaximoRequest valorMaximo = new ValorMaximoRequest(1L, new BigDecimal("1500.00"), 24);
+        PrazoMinimoRequest prazoMinimo = new PrazoMinimoRequest(1L, new BigDecimal("10000.00"), new BigDecimal("1500.00"));
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoReativoService.calcularValorMaximo(valorMaximo)).thenReturn(Uni.createFrom().item(resumo));
+        when(produtoEmprestimoReativoService.calcularPrazoMinimo(prazoMinimo)).thenReturn(Uni.createFrom().item(resumo));
+
+        Response porParcela = produtoEmprestimoReativoController.calcularValorMaximo(valorMaximo).await().indefinitely();
+        Response porValor = produtoEmprestimoReativoController.calcularPrazoMinimo(prazoMinimo).await().indefinitely();
+
+        assertSame(resumo, porParcela.getEntity());
+        assertSame(resumo, porValor.getEntity());
+    }
+
+    @Test
+    void testCompararProdutos() {
+        ComparacaoProdutosRequest request = new ComparacaoProdutosRequest(new BigDecimal("10000.00"), 24);
+        List<SimulacaoResumoResponse> resumos = List.of(new SimulacaoResumoResponse());
+        when(produtoEmprestimoReativoService.compararProdutos(request, null)).thenReturn(Uni.createFrom().item(resumos));
+
+        Response resultado = produtoEmprestimoReativoController.compararProdutos(null, request).await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(resumos, resultado.getEntity());
+    }
+
+    @Test
+    void testSimularIntervalo() {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = List.of(new SimulacaoEmprestimoResponse.DetalhamentoMensal());
+        when(produtoEmprestimoReativoService.simularIntervalo(simulacaoRequest, 7, null)).thenReturn(Uni.createFrom().item(meses));
+
+        Response resultado = produtoEmprestimoReativoController.simularIntervalo(7, null, simulacaoRequest).await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(meses, resultado.getEntity());
+    }
+
+    @Test
+    void testSimularEmprestimo() {
+        SimulacaoEmprestimoResponse simulacao = new SimulacaoEmprestimoResponse();
+        when(produtoEmprestimoReativoService.simularEmprestimo(simulacaoRequest, null, 12)).thenReturn(Uni.createFrom().item(simulacao));
+
+        Response resultado = produtoEmprestimoReativoController.simularEmprestimo(null, 12, simulacaoRequest).await().indefinitely();
+
+        assertEquals(200, resultado.getStatus());
+        assertSame(simulacao, resultado.getEntity());
+    }
+
+    @Test
+    void testEndpointsNaoBloqueiamEventLoop() {
+        for (Method metodo : ProdutoEmprestimoReativoController.class.getDeclaredMethods()) {
+            assertFalse(metodo.isAnnotationPresent(Blocking.class), metodo.getName());
+            assertFalse(metodo.isAnnotationPresent(RunOnVirtualThread.class), metodo.getName());
+        }
+    }
+
+    @Test
+    void testControllersSelecionadosPeloModoDaApi() {
+        IfBuildProperty reativo = ProdutoEmprestimoReativoController.class.getAnnotation(IfBuildProperty.class);
+        UnlessBuildProperty bloqueante = ProdutoEmprestimoController.class.getAnnotation(UnlessBuildProperty.class);
+
+        assertEquals("caixa.api.modo", reativo.name());
+        assertEquals("reativo", reativo.stringValue());
+        assertFalse(reativo.enableIfMissing());
+        assertEquals("caixa.api.modo", bloqueante.name());
+        assertEquals("reativo", bloqueante.stringValue());
+        assertTrue(bloqueante.enableIfMissing());
+    }
+}
@@ -0,0 +1,115 @@
+package com.caixa.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CronogramaAmortizacaoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CronogramaAmortizacao cronograma() {
+        // R$ 200,00 em 3 meses sem juros: parcela de 66,67 zera o saldo no último mês
+        return new CronogramaAmortizacao(
+            new long[] {6667, 6667, 6667},
+            new long[] {0, 0, 0},
+            new long[] {6667, 6667, 6667},
+            new long[] {13333, 6666, 0},
+            2);
+    }
+
+    @Test
+    @DisplayName("Deve materializar o mês acessado a partir das colunas")
+    void deveMaterializarMesAcessado() {
+        // When
+        SimulacaoEmprestimoResponse.DetalhamentoMensal segundo = cronograma().get(1);
+
+        // Then
+        assertEquals(2, segundo.getMes());
+        assertEquals(new BigDecimal("66.67"), segundo.getValorParcela());
+        assertEquals(new BigDecimal("0.00"), segundo.getJuros());
+        assertEquals(new BigDecimal("66.67"), segundo.getAmortizacao());
+        assertEquals(new BigDecimal("66.66"), segundo.getSaldoDevedor());
+    }
+
+    @Test
+    @DisplayName("Deve numerar os meses de um trecho a partir do primeiro mês informado")
+    void deveNumerarMesesDoTrecho() throws Exception {
+        // Given - meses 2 e 3 do mesmo cronograma
+        CronogramaAmortizacao trecho = new CronogramaAmortizacao(
+            new long[] {6667, 6667}, new long[] {0, 0}, new long[] {6667, 6667}, new long[] {6666, 0}, 1, 2);
+
+        // When
+        String json = objectMapper.writeValueAsString(trecho);
+
+        // Then
+        assertEquals(2, trecho.get(0).getMes());
+        assertEquals(3, trecho.getMes(1));
+        assertSame(BigDecimal.ZERO, trecho.get(1).getSaldoDevedor());
+        assertEquals(objectMapper.writeValueAsString(List.copyOf(trecho)), json);
+    }
+
+    @Test
+    @DisplayName("Deve representar saldo zerado como BigDecimal.ZERO")
+    void deveRepresentarSaldoZeradoComoZero() {
+        // Given
+        CronogramaAmortizacao cronograma = cronograma();
+
+        // Then
+        assertEquals(3, cronograma.size());
+        assertFalse(cronograma.isSaldoZerado(1));
+        assertTrue(cronograma.isSaldoZerado(2));
+        assertSame(BigDecimal.ZERO, cronograma.get(2).getSaldoDevedor());
+    }
+
+    @Test
+    @DisplayName("Deve serializar no mesmo formato de uma lista de DetalhamentoMensal")
+    void deveSerializarNoMesmoFormatoDaLista() throws Exception {
+        // Given
+        CronogramaAmortizacao cronograma = cronograma();
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> lista = List.copyOf(cronograma);
+
+        // When
+        String jsonColunas = objectMapper.writeValueAsString(cronograma);
+        String jsonLista = objectMapper.writeValueAsString(lista);
+
+        // Then
+        assertEquals(jsonLista, jsonColunas);
+        assertTrue(jsonColunas.endsWith("\"saldoDevedor\":0}]"));
+    }
+
+    @Test
+    @DisplayName("Deve serializar o cronograma dentro da resposta da simulação")
+    void deveSerializarCronogramaDentroDaResposta() throws Exception {
+        // Given
+        SimulacaoEmprestimoResponse colunas = new SimulacaoEmprestimoResponse(null, new BigDecimal("0.00"),
+            new BigDecimal("0.00"), new BigDecimal("200.00"), new BigDecimal("200.01"), cronograma());
+        SimulacaoEmprestimoResponse lista = new SimulacaoEmprestimoResponse(null, new BigDecimal("0.00"),
+            new BigDecimal("0.00"), new BigDecimal("200.00"), new BigDecimal("200.01"), List.copyOf(cronograma()));
+
+        // Then
+        assertEquals(objectMapper.writeValueAsString(lista), objectMapper.writeValueAsString(colunas));
+    }
+
+    @Test
+    @DisplayName("Deve formatar centavos com duas casas decimais")
+    void deveFormatarCentavosComDuasCasas() {
+        assertEquals("0.00", formatar(0));
+        assertEquals("0.05", formatar(5));
+        assertEquals("1.23", formatar(123));
+        assertEquals("1000.00", formatar(100000));
+        assertEquals("-0.05", formatar(-5));
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).toPlainString(), formatar(Long.MAX_VALUE));
+    }
+
+    private static String formatar(long centavos) {
+        char[] buffer = new char[21];
+        int inicio = CronogramaAmortizacaoSerializer.formatarCentavos(centavos, buffer);
+        return new String(buffer, inicio, buffer.length - inicio);
+    }
+}
@@ -0,0 +1,57 @@
+package com.caixa.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProdutoEmprestimoPaginaResponseTest {
+
+    @Test
+    @DisplayName("Deve indicar próxima página quando houver cursor")
+    void deveIndicarProximaPaginaQuandoHouverCursor() {
+        // Given
+        List<ProdutoEmprestimoResumo> itens = List.of(
+            new ProdutoEmprestimoResumo(1L, "Empréstimo Pessoal", new BigDecimal("18.00")));
+
+        // When
+        ProdutoEmprestimoPaginaResponse pagina = new ProdutoEmprestimoPaginaResponse(itens, "MXwx");
+
+        // Then
+        assertSame(itens, pagina.getItens());
+        assertEquals("MXwx", pagina.getProximoCursor());
+        assertTrue(pagina.isPossuiProxima());
+    }
+
+    @Test
+    @DisplayName("Deve indicar última página quando não houver cursor")
+    void deveIndicarUltimaPaginaQuandoNaoHouverCursor() {
+        // When
+        ProdutoEmprestimoPaginaResponse pagina = new ProdutoEmprestimoPaginaResponse(List.of(), null);
+
+        // Then
+        assertTrue(pagina.getItens().isEmpty());
+        assertNull(pagina.getProximoCursor());
+        assertFalse(pagina.isPossuiProxima());
+    }
+
+    @Test
+    @DisplayName("Deve permitir definir e obter propriedades do resumo")
+    void devePermitirDefinirEObterPropriedadesDoResumo() {
+        // Given
+        ProdutoEmprestimoResumo resumo = new ProdutoEmprestimoResumo();
+
+        // When
+        resumo.setId(2L);
+        resumo.setNome("Empréstimo Consignado");
+        resumo.setTaxaJurosAnual(new BigDecimal("12.00"));
+
+        // Then
+        assertEquals(2L, resumo.getId());
+        assertEquals("Empréstimo Consignado", resumo.getNome());
+        assertEquals(new BigDecimal("12.00"), resumo.getTaxaJurosAnual());
+    }
+}
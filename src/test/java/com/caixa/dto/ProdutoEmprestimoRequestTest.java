@@ -1,6 +1,8 @@
 package com.caixa.dto;
 
 import com.caixa.dto.ProdutoEmprestimoRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -82,4 +84,32 @@ class ProdutoEmprestimoRequestTest {
         // Then
         assertEquals(prazoMaximoMeses, request.getPrazoMaximoMeses());
     }
+
+    @Test
+    @DisplayName("Deve rejeitar nome maior que a coluna do banco")
+    void deveRejeitarNomeMaiorQueColuna() {
+        // Given
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ProdutoEmprestimoRequest limite = new ProdutoEmprestimoRequest("A".repeat(100), new BigDecimal("10.00"), 12);
+        ProdutoEmprestimoRequest longo = new ProdutoEmprestimoRequest("A".repeat(101), new BigDecimal("10.00"), 12);
+
+        // When / Then
+        assertTrue(validator.validate(limite).isEmpty());
+        assertEquals("Nome do produto deve ter no máximo 100 caracteres",
+            validator.validate(longo).iterator().next().getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar prazo máximo acima do limite permitido")
+    void deveRejeitarPrazoAcimaDoLimite() {
+        // Given
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ProdutoEmprestimoRequest limite = new ProdutoEmprestimoRequest("Imobiliário", new BigDecimal("10.00"), 420);
+        ProdutoEmprestimoRequest acima = new ProdutoEmprestimoRequest("Imobiliário", new BigDecimal("10.00"), 421);
+
+        // When / Then
+        assertTrue(validator.validate(limite).isEmpty());
+        assertEquals("Prazo máximo em meses deve ser no máximo 420",
+            validator.validate(acima).iterator().next().getMessage());
+    }
 }
@@ -1,6 +1,7 @@
 package com.caixa.dto;
 
 import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.model.SistemaAmortizacao;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
@@ -41,6 +42,19 @@ class SimulacaoEmprestimoRequestTest {
         assertEquals(prazoMeses, request.getPrazoMeses());
     }
 
+    @Test
+    @DisplayName("Deve usar Price como sistema de amortização padrão")
+    void deveUsarPriceComoSistemaPadrao() {
+        // When
+        SimulacaoEmprestimoRequest padrao = new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 24);
+        SimulacaoEmprestimoRequest sac = new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 24, SistemaAmortizacao.SAC);
+
+        // Then
+        assertEquals(SistemaAmortizacao.PRICE, new SimulacaoEmprestimoRequest().getSistemaAmortizacao());
+        assertEquals(SistemaAmortizacao.PRICE, padrao.getSistemaAmortizacao());
+        assertEquals(SistemaAmortizacao.SAC, sac.getSistemaAmortizacao());
+    }
+
     @Test
     @DisplayName("Deve permitir definir e obter ID do produto")
     void devePermitirDefinirEObterIdProduto() {
@@ -0,0 +1,54 @@
+package com.caixa.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulacaoLoteItemResponseTest {
+
+    @Test
+    @DisplayName("Deve criar item de sucesso sem erro")
+    void deveCriarItemDeSucesso() {
+        // Given
+        SimulacaoEmprestimoResponse simulacao = new SimulacaoEmprestimoResponse();
+
+        // When
+        SimulacaoLoteItemResponse item = SimulacaoLoteItemResponse.sucesso(3, simulacao);
+
+        // Then
+        assertEquals(3, item.getIndice());
+        assertSame(simulacao, item.getSimulacao());
+        assertNull(item.getErro());
+    }
+
+    @Test
+    @DisplayName("Deve criar item de falha sem simulação")
+    void deveCriarItemDeFalha() {
+        // When
+        SimulacaoLoteItemResponse item = SimulacaoLoteItemResponse.falha(0, "Produto não encontrado com ID: 9");
+
+        // Then
+        assertEquals(0, item.getIndice());
+        assertNull(item.getSimulacao());
+        assertEquals("Produto não encontrado com ID: 9", item.getErro());
+    }
+
+    @Test
+    @DisplayName("Deve permitir definir e obter propriedades")
+    void devePermitirDefinirEObterPropriedades() {
+        // Given
+        SimulacaoLoteItemResponse item = new SimulacaoLoteItemResponse();
+        SimulacaoEmprestimoResponse simulacao = new SimulacaoEmprestimoResponse();
+
+        // When
+        item.setIndice(7);
+        item.setSimulacao(simulacao);
+        item.setErro("erro");
+
+        // Then
+        assertEquals(7, item.getIndice());
+        assertSame(simulacao, item.getSimulacao());
+        assertEquals("erro", item.getErro());
+    }
+}
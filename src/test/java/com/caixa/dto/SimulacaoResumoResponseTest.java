@@ -0,0 +1,68 @@
+package com.caixa.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulacaoResumoResponseTest {
+
+    @Test
+    @DisplayName("Deve criar resumo com construtor vazio")
+    void deveCriarResumoComConstrutorVazio() {
+        // When
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+
+        // Then
+        assertNull(resumo.getIdProduto());
+        assertNull(resumo.getValorParcela());
+        assertNull(resumo.getValorTotalComJuros());
+    }
+
+    @Test
+    @DisplayName("Deve criar resumo com construtor parametrizado")
+    void deveCriarResumoComConstrutorParametrizado() {
+        // When
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse(1L, "Empréstimo Pessoal", new BigDecimal("18.00"),
+            new BigDecimal("1.39"), new BigDecimal("10000.00"), 24, new BigDecimal("497.70"), new BigDecimal("11944.80"));
+
+        // Then
+        assertEquals(1L, resumo.getIdProduto());
+        assertEquals("Empréstimo Pessoal", resumo.getNomeProduto());
+        assertEquals(new BigDecimal("18.00"), resumo.getTaxaJurosAnual());
+        assertEquals(new BigDecimal("1.39"), resumo.getTaxaJurosEfetivaMensal());
+        assertEquals(new BigDecimal("10000.00"), resumo.getValorSolicitado());
+        assertEquals(24, resumo.getPrazoMeses());
+        assertEquals(new BigDecimal("497.70"), resumo.getValorParcela());
+        assertEquals(new BigDecimal("11944.80"), resumo.getValorTotalComJuros());
+    }
+
+    @Test
+    @DisplayName("Deve permitir definir e obter propriedades")
+    void devePermitirDefinirEObterPropriedades() {
+        // Given
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+
+        // When
+        resumo.setIdProduto(2L);
+        resumo.setNomeProduto("Empréstimo Consignado");
+        resumo.setTaxaJurosAnual(new BigDecimal("12.00"));
+        resumo.setTaxaJurosEfetivaMensal(new BigDecimal("0.95"));
+        resumo.setValorSolicitado(new BigDecimal("5000.00"));
+        resumo.setPrazoMeses(12);
+        resumo.setValorParcela(new BigDecimal("443.94"));
+        resumo.setValorTotalComJuros(new BigDecimal("5327.28"));
+
+        // Then
+        assertEquals(2L, resumo.getIdProduto());
+        assertEquals("Empréstimo Consignado", resumo.getNomeProduto());
+        assertEquals(new BigDecimal("12.00"), resumo.getTaxaJurosAnual());
+        assertEquals(new BigDecimal("0.95"), resumo.getTaxaJurosEfetivaMensal());
+        assertEquals(new BigDecimal("5000.00"), resumo.getValorSolicitado());
+        assertEquals(12, resumo.getPrazoMeses());
+        assertEquals(new BigDecimal("443.94"), resumo.getValorParcela());
+        assertEquals(new BigDecimal("5327.28"), resumo.getValorTotalComJuros());
+    }
+}
@@ -0,0 +1,21 @@
+package com.caixa.health;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiLivenessCheckTest {
+
+    @Test
+    @DisplayName("Deve indicar que o processo está vivo")
+    void deveIndicarProcessoVivo() {
+        // When
+        HealthCheckResponse resposta = new ApiLivenessCheck().call();
+
+        // Then
+        assertEquals("api", resposta.getName());
+        assertEquals(HealthCheckResponse.Status.UP, resposta.getStatus());
+    }
+}
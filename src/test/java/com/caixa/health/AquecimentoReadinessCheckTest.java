@@ -0,0 +1,53 @@
+package com.caixa.health;
+
+import com.caixa.service.AquecimentoService;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AquecimentoReadinessCheckTest {
+
+    @Mock
+    private AquecimentoService aquecimentoService;
+
+    @InjectMocks
+    private AquecimentoReadinessCheck aquecimentoReadinessCheck;
+
+    @Test
+    @DisplayName("Deve estar pronto após o aquecimento")
+    void deveEstarProntoAposAquecimento() {
+        // Given
+        when(aquecimentoService.isAquecido()).thenReturn(true);
+
+        // When
+        HealthCheckResponse resposta = aquecimentoReadinessCheck.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.UP, resposta.getStatus());
+        verify(aquecimentoService, never()).aquecerEmSegundoPlano();
+    }
+
+    @Test
+    @DisplayName("Deve ficar indisponível e tentar novamente enquanto o catálogo não aquece")
+    void deveFicarIndisponivelETentarNovamente() {
+        // Given
+        when(aquecimentoService.isAquecido()).thenReturn(false);
+        when(aquecimentoService.getUltimoErro()).thenReturn("Banco indisponível");
+
+        // When
+        HealthCheckResponse resposta = aquecimentoReadinessCheck.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.DOWN, resposta.getStatus());
+        assertEquals("Banco indisponível", resposta.getData().orElseThrow().get("erro"));
+        verify(aquecimentoService, times(1)).aquecerEmSegundoPlano();
+    }
+}
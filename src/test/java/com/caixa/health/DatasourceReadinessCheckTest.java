@@ -0,0 +1,80 @@
+package com.caixa.health;
+
+import io.agroal.api.AgroalDataSource;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatasourceReadinessCheckTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private AgroalDataSource dataSource;
+
+    @InjectMocks
+    private DatasourceReadinessCheck datasourceReadinessCheck;
+
+    @BeforeEach
+    void setUp() {
+        when(dataSource.getConfiguration().connectionPoolConfiguration().maxSize()).thenReturn(20);
+    }
+
+    @Test
+    @DisplayName("Deve estar pronto quando o banco responde e o pool tem folga")
+    void deveEstarProntoQuandoBancoRespondeEPoolTemFolga() throws SQLException {
+        // Given
+        when(dataSource.getMetrics().activeCount()).thenReturn(5L);
+        when(dataSource.getMetrics().awaitingCount()).thenReturn(0L);
+        when(dataSource.isHealthy(false)).thenReturn(true);
+
+        // When
+        HealthCheckResponse resposta = datasourceReadinessCheck.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.UP, resposta.getStatus());
+        assertEquals(5L, resposta.getData().orElseThrow().get("conexoesAtivas"));
+    }
+
+    @Test
+    @DisplayName("Deve ficar indisponível quando o pool está saturado, sem pedir nova conexão")
+    void deveFicarIndisponivelQuandoPoolSaturado() throws SQLException {
+        // Given
+        when(dataSource.getMetrics().activeCount()).thenReturn(20L);
+        when(dataSource.getMetrics().awaitingCount()).thenReturn(3L);
+
+        // When
+        HealthCheckResponse resposta = datasourceReadinessCheck.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.DOWN, resposta.getStatus());
+        assertEquals("Pool de conexões saturado", resposta.getData().orElseThrow().get("erro"));
+        verify(dataSource, never()).isHealthy(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Deve ficar indisponível quando o banco não responde")
+    void deveFicarIndisponivelQuandoBancoNaoResponde() throws SQLException {
+        // Given
+        when(dataSource.getMetrics().activeCount()).thenReturn(0L);
+        when(dataSource.getMetrics().awaitingCount()).thenReturn(0L);
+        when(dataSource.isHealthy(false)).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        HealthCheckResponse resposta = datasourceReadinessCheck.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.DOWN, resposta.getStatus());
+        assertEquals("Connection refused", resposta.getData().orElseThrow().get("erro"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.caixa.model;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorIdProdutoEmprestimoTest {
+
+    @Test
+    @DisplayName("Deve configurar a sequência com pooled-lo, começando acima dos ids do import.sql")
+    void deveConfigurarSequenciaPooledLo() {
+        // When
+        Properties parametros = GeradorIdProdutoEmprestimo.parametrizar(new Properties(), 100);
+
+        // Then
+        assertEquals("produto_emprestimo_seq", parametros.getProperty(SequenceStyleGenerator.SEQUENCE_PARAM));
+        assertEquals("1000", parametros.getProperty(OptimizableGenerator.INITIAL_PARAM));
+        assertEquals("100", parametros.getProperty(OptimizableGenerator.INCREMENT_PARAM));
+        assertEquals("pooled-lo", parametros.getProperty(OptimizableGenerator.OPT_PARAM));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de alocação menor que um")
+    void deveRejeitarTamanhoAlocacaoInvalido() {
+        // Then
+        assertThrows(MappingException.class, () -> GeradorIdProdutoEmprestimo.parametrizar(new Properties(), 0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.caixa.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProdutoEmprestimoSnapshotTest {
+
+    @Test
+    @DisplayName("Deve criar snapshot a partir da entidade")
+    void deveCriarSnapshotAPartirDaEntidade() {
+        // Given
+        ProdutoEmprestimo produto = new ProdutoEmprestimo("Empréstimo Pessoal", new BigDecimal("18.00"), 60);
+        produto.id = 1L;
+        produto.versao = 2L;
+
+        // When
+        ProdutoEmprestimoSnapshot snapshot = ProdutoEmprestimoSnapshot.de(produto);
+
+        // Then
+        assertEquals(1L, snapshot.id());
+        assertEquals("Empréstimo Pessoal", snapshot.nome());
+        assertEquals(new BigDecimal("18.00"), snapshot.taxaJurosAnual());
+        assertEquals(60, snapshot.prazoMaximoMeses());
+        assertEquals(2L, snapshot.versao());
+    }
+
+    @Test
+    @DisplayName("Deve gerar nova entidade desanexada a cada conversão")
+    void deveGerarNovaEntidadeACadaConversao() {
+        // Given
+        ProdutoEmprestimoSnapshot snapshot = new ProdutoEmprestimoSnapshot(2L, "Empréstimo Consignado", new BigDecimal("12.00"), 84,
+            3L, Instant.parse("2024-01-01T00:00:00Z"));
+
+        // When
+        ProdutoEmprestimo primeira = snapshot.paraEntidade();
+        ProdutoEmprestimo segunda = snapshot.paraEntidade();
+
+        // Then
+        assertNotSame(primeira, segunda);
+        assertEquals(2L, primeira.id);
+        assertEquals("Empréstimo Consignado", primeira.nome);
+        assertEquals(new BigDecimal("12.00"), primeira.taxaJurosAnual);
+        assertEquals(84, primeira.prazoMaximoMeses);
+        assertEquals(3L, primeira.versao);
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z"), primeira.atualizadoEm);
+    }
+}
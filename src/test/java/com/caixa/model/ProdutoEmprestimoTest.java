@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -63,6 +64,21 @@ class ProdutoEmprestimoTest {
         assertTrue(toString.contains("prazoMaximoMeses=60"));
     }
 
+    @Test
+    @DisplayName("Deve registrar a data de atualização ao persistir ou atualizar")
+    void deveRegistrarDataDeAtualizacao() {
+        // Given
+        ProdutoEmprestimo produto = new ProdutoEmprestimo("Empréstimo Pessoal", new BigDecimal("18.00"), 60);
+        Instant antes = Instant.now();
+
+        // When
+        produto.registrarAtualizacao();
+
+        // Then
+        assertNotNull(produto.atualizadoEm);
+        assertFalse(produto.atualizadoEm.isBefore(antes));
+    }
+
     @Test
     @DisplayName("Deve permitir definir e obter propriedades")
     void devePermitirDefinirEObterPropriedades() {
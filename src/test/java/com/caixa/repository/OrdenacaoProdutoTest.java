@@ -0,0 +1,33 @@
+package com.caixa.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrdenacaoProdutoTest {
+
+    @Test
+    @DisplayName("Deve resolver ordenação ignorando maiúsculas e minúsculas")
+    void deveResolverOrdenacaoIgnorandoCaixa() {
+        assertEquals(Optional.of(OrdenacaoProduto.ID), OrdenacaoProduto.doParametro("id"));
+        assertEquals(Optional.of(OrdenacaoProduto.NOME), OrdenacaoProduto.doParametro("Nome"));
+        assertEquals(Optional.of(OrdenacaoProduto.TAXA), OrdenacaoProduto.doParametro("TAXA"));
+    }
+
+    @Test
+    @DisplayName("Deve mapear o parâmetro para o campo da entidade")
+    void deveMapearParametroParaCampoDaEntidade() {
+        assertEquals("taxaJurosAnual", OrdenacaoProduto.TAXA.getCampo());
+        assertEquals("nome", OrdenacaoProduto.NOME.getCampo());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação desconhecida")
+    void deveRejeitarOrdenacaoDesconhecida() {
+        assertTrue(OrdenacaoProduto.doParametro("prazo").isEmpty());
+        assertTrue(OrdenacaoProduto.doParametro(null).isEmpty());
+    }
+}
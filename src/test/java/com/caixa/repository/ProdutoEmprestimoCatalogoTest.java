@@ -0,0 +1,188 @@
+package com.caixa.repository;
+
+import com.caixa.model.ProdutoEmprestimo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProdutoEmprestimoCatalogoTest {
+
+    @Mock
+    private ProdutoEmprestimoRepository produtoEmprestimoRepository;
+
+    @InjectMocks
+    private ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    private ProdutoEmprestimo pessoal;
+    private ProdutoEmprestimo consignado;
+
+    @BeforeEach
+    void setUp() {
+        pessoal = new ProdutoEmprestimo("Empréstimo Pessoal", new BigDecimal("18.00"), 60);
+        pessoal.id = 1L;
+        consignado = new ProdutoEmprestimo("Empréstimo Consignado", new BigDecimal("12.00"), 84);
+        consignado.id = 2L;
+    }
+
+    @Test
+    @DisplayName("Deve carregar o catálogo uma única vez no primeiro acesso")
+    void deveCarregarCatalogoUmaUnicaVez() {
+        // Given
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(consignado, pessoal));
+
+        // When
+        List<ProdutoEmprestimo> produtos = produtoEmprestimoCatalogo.listarTodos();
+        Optional<ProdutoEmprestimo> produto = produtoEmprestimoCatalogo.buscarPorId(2L);
+
+        // Then
+        assertTrue(produtoEmprestimoCatalogo.isCarregado());
+        assertEquals(2, produtos.size());
+        assertEquals(1L, produtos.get(0).id);
+        assertEquals(2L, produtos.get(1).id);
+        assertTrue(produto.isPresent());
+        assertEquals("Empréstimo Consignado", produto.get().nome);
+        verify(produtoEmprestimoRepository, times(1)).listAll();
+        verifyNoMoreInteractions(produtoEmprestimoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio para produto inexistente sem consultar o banco")
+    void deveRetornarVazioParaProdutoInexistente() {
+        // Given
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal));
+
+        // When
+        Optional<ProdutoEmprestimo> produto = produtoEmprestimoCatalogo.buscarPorId(999L);
+
+        // Then
+        assertTrue(produto.isEmpty());
+        assertTrue(produtoEmprestimoCatalogo.buscarPorId(null).isEmpty());
+        verify(produtoEmprestimoRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve retornar cópias que não alteram o catálogo")
+    void deveRetornarCopiasQueNaoAlteramCatalogo() {
+        // Given
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal));
+
+        // When
+        ProdutoEmprestimo copia = produtoEmprestimoCatalogo.buscarPorId(1L).orElseThrow();
+        copia.taxaJurosAnual = new BigDecimal("99.00");
+        pessoal.nome = "Alterado fora do catálogo";
+
+        // Then
+        ProdutoEmprestimo atual = produtoEmprestimoCatalogo.buscarPorId(1L).orElseThrow();
+        assertNotSame(copia, atual);
+        assertEquals(new BigDecimal("18.00"), atual.taxaJurosAnual);
+        assertEquals("Empréstimo Pessoal", atual.nome);
+    }
+
+    @Test
+    @DisplayName("Deve refletir registros e remoções feitos pelo serviço")
+    void deveRefletirRegistrosERemocoes() {
+        // Given
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal));
+        produtoEmprestimoCatalogo.listarTodos();
+
+        // When
+        produtoEmprestimoCatalogo.registrar(consignado);
+        produtoEmprestimoCatalogo.remover(1L);
+
+        // Then
+        assertTrue(produtoEmprestimoCatalogo.buscarPorId(1L).isEmpty());
+        assertTrue(produtoEmprestimoCatalogo.buscarPorId(2L).isPresent());
+        assertEquals(1, produtoEmprestimoCatalogo.listarTodos().size());
+    }
+
+    @Test
+    @DisplayName("Deve descartar produtos ausentes ao recarregar")
+    void deveDescartarProdutosAusentesAoRecarregar() {
+        // Given
+        List<ProdutoEmprestimo> noBanco = new ArrayList<>(List.of(pessoal, consignado));
+        when(produtoEmprestimoRepository.listAll()).thenAnswer(invocation -> new ArrayList<>(noBanco));
+        produtoEmprestimoCatalogo.recarregar();
+
+        // When
+        noBanco.remove(pessoal);
+        produtoEmprestimoCatalogo.recarregar();
+
+        // Then
+        assertTrue(produtoEmprestimoCatalogo.buscarPorId(1L).isEmpty());
+        assertTrue(produtoEmprestimoCatalogo.buscarPorId(2L).isPresent());
+        verify(produtoEmprestimoRepository, times(2)).listAll();
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários produtos de uma só vez ignorando inexistentes")
+    void deveBuscarVariosProdutosDeUmaSoVez() {
+        // Given
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal, consignado));
+
+        // When
+        Map<Long, ProdutoEmprestimo> produtos = produtoEmprestimoCatalogo.buscarPorIds(Arrays.asList(2L, 999L, null, 2L));
+
+        // Then
+        assertEquals(1, produtos.size());
+        assertEquals("Empréstimo Consignado", produtos.get(2L).nome);
+        verify(produtoEmprestimoRepository, times(1)).listAll();
+    }
+
+    @Test
+    @DisplayName("Deve mudar a versão do catálogo apenas quando um produto muda")
+    void deveMudarVersaoApenasQuandoProdutoMuda() {
+        // Given
+        pessoal.versao = 0L;
+        consignado.versao = 0L;
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal, consignado));
+        VersaoCatalogo inicial = produtoEmprestimoCatalogo.obterVersao();
+
+        // When
+        produtoEmprestimoCatalogo.recarregar();
+        VersaoCatalogo recarregada = produtoEmprestimoCatalogo.obterVersao();
+        pessoal.versao = 1L;
+        produtoEmprestimoCatalogo.registrar(pessoal);
+        VersaoCatalogo atualizada = produtoEmprestimoCatalogo.obterVersao();
+        produtoEmprestimoCatalogo.remover(2L);
+        VersaoCatalogo aposRemocao = produtoEmprestimoCatalogo.obterVersao();
+
+        // Then
+        assertEquals(inicial, recarregada);
+        assertNotEquals(inicial.resumo(), atualizada.resumo());
+        assertNotEquals(atualizada.resumo(), aposRemocao.resumo());
+    }
+
+    @Test
+    @DisplayName("Deve avançar a data da versão ao remover o produto alterado mais recentemente")
+    void deveAvancarDataAoRemoverProdutoMaisRecente() {
+        // Given
+        consignado.atualizadoEm = Instant.parse("2024-01-01T00:00:00Z");
+        pessoal.atualizadoEm = Instant.parse("2024-03-10T12:30:45Z");
+        when(produtoEmprestimoRepository.listAll()).thenReturn(List.of(pessoal, consignado));
+        VersaoCatalogo inicial = produtoEmprestimoCatalogo.obterVersao();
+
+        // When
+        produtoEmprestimoCatalogo.remover(1L);
+        VersaoCatalogo aposRemocao = produtoEmprestimoCatalogo.obterVersao();
+
+        // Then
+        assertEquals(pessoal.atualizadoEm, inicial.ultimaAtualizacao());
+        assertTrue(aposRemocao.ultimaAtualizacao().isAfter(inicial.ultimaAtualizacao()));
+    }
+}
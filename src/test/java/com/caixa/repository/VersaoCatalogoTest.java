@@ -0,0 +1,85 @@
+package com.caixa.repository;
+
+import com.caixa.model.ProdutoEmprestimoSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersaoCatalogoTest {
+
+    private static final Instant JANEIRO = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant MARCO = Instant.parse("2024-03-10T12:30:45Z");
+
+    @Test
+    @DisplayName("Deve gerar o mesmo resumo para o mesmo conteúdo")
+    void deveGerarMesmoResumoParaMesmoConteudo() {
+        // Given
+        List<ProdutoEmprestimoSnapshot> produtos = List.of(produto(1L, 0L, JANEIRO), produto(2L, 3L, MARCO));
+
+        // When
+        VersaoCatalogo primeira = VersaoCatalogo.de(produtos);
+        VersaoCatalogo segunda = VersaoCatalogo.de(List.copyOf(produtos));
+
+        // Then
+        assertEquals(primeira, segunda);
+        assertEquals(32, primeira.resumo().length());
+        assertEquals(MARCO, primeira.ultimaAtualizacao());
+    }
+
+    @Test
+    @DisplayName("Deve mudar o resumo quando uma versão muda ou um produto sai do catálogo")
+    void deveMudarResumoQuandoConteudoMuda() {
+        // Given
+        VersaoCatalogo original = VersaoCatalogo.de(List.of(produto(1L, 0L, JANEIRO), produto(2L, 0L, JANEIRO)));
+
+        // When
+        VersaoCatalogo atualizado = VersaoCatalogo.de(List.of(produto(1L, 1L, MARCO), produto(2L, 0L, JANEIRO)));
+        VersaoCatalogo semProduto = VersaoCatalogo.de(List.of(produto(1L, 0L, JANEIRO)));
+        VersaoCatalogo trocados = VersaoCatalogo.de(List.of(produto(1L, 0L, JANEIRO), produto(3L, 0L, JANEIRO)));
+
+        // Then
+        assertNotEquals(original.resumo(), atualizado.resumo());
+        assertNotEquals(original.resumo(), semProduto.resumo());
+        assertNotEquals(original.resumo(), trocados.resumo());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar catálogo vazio e produtos sem data de atualização")
+    void deveAceitarCatalogoVazioEProdutosSemData() {
+        // When
+        VersaoCatalogo vazio = VersaoCatalogo.de(List.of());
+        VersaoCatalogo semData = VersaoCatalogo.de(List.of(produto(1L, null, null)));
+
+        // Then
+        assertNull(vazio.ultimaAtualizacao());
+        assertNull(semData.ultimaAtualizacao());
+        assertNotEquals(vazio.resumo(), semData.resumo());
+    }
+
+    @Test
+    @DisplayName("Deve avançar a data em toda escrita sem nunca retroceder")
+    void deveAvancarDataSemRetroceder() {
+        // Given
+        VersaoCatalogo original = VersaoCatalogo.de(List.of(produto(1L, 0L, JANEIRO), produto(2L, 0L, MARCO)));
+        Instant abril = Instant.parse("2024-04-01T00:00:00Z");
+
+        // When
+        VersaoCatalogo aposRemocao = original.depoisDe(List.of(produto(1L, 0L, JANEIRO)), abril);
+        VersaoCatalogo aposEscritaAntiga = aposRemocao.depoisDe(List.of(produto(1L, 1L, JANEIRO)), JANEIRO);
+
+        // Then
+        assertEquals(abril, aposRemocao.ultimaAtualizacao());
+        assertEquals(VersaoCatalogo.de(List.of(produto(1L, 0L, JANEIRO))).resumo(), aposRemocao.resumo());
+        assertEquals(abril, aposEscritaAntiga.ultimaAtualizacao());
+        assertNotEquals(aposRemocao.resumo(), aposEscritaAntiga.resumo());
+    }
+
+    private static ProdutoEmprestimoSnapshot produto(Long id, Long versao, Instant atualizadoEm) {
+        return new ProdutoEmprestimoSnapshot(id, "Produto " + id, new BigDecimal("10.00"), 12, versao, atualizadoEm);
+    }
+}
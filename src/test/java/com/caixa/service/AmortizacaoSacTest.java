@@ -0,0 +1,147 @@
+package com.caixa.service;
+
+import com.caixa.dto.CronogramaAmortizacao;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizacaoSacTest {
+
+    private static final long SEMENTE = 20241018L;
+
+    private final AmortizacaoSac amortizacaoSac = new AmortizacaoSac();
+
+    @Test
+    @DisplayName("Deve amortizar valor constante com parcelas decrescentes")
+    void deveAmortizarValorConstante() {
+        // Given
+        TabelaTaxaProduto tabela = tabela("1.00");
+
+        // When
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> cronograma =
+            amortizacaoSac.gerarCronograma(new BigDecimal("1000.00"), tabela, 4);
+
+        // Then
+        assertEquals(List.of(new BigDecimal("260.00"), new BigDecimal("257.50"), new BigDecimal("255.00"), new BigDecimal("252.50")),
+            cronograma.stream().map(SimulacaoEmprestimoResponse.DetalhamentoMensal::getValorParcela).toList());
+        assertEquals(new BigDecimal("250.00"), cronograma.get(0).getAmortizacao());
+        assertEquals(new BigDecimal("10.00"), cronograma.get(0).getJuros());
+        assertEquals(new BigDecimal("0.00"), cronograma.get(3).getSaldoDevedor());
+    }
+
+    @Test
+    @DisplayName("Deve ajustar a última amortização para quitar o saldo restante")
+    void deveAjustarUltimaAmortizacao() {
+        // Given
+        TabelaTaxaProduto tabela = tabela("0.71");
+
+        // When
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> cronograma =
+            amortizacaoSac.gerarCronograma(new BigDecimal("100.00"), tabela, 3);
+
+        // Then
+        assertEquals(new BigDecimal("33.33"), cronograma.get(0).getAmortizacao());
+        assertEquals(new BigDecimal("33.34"), cronograma.get(2).getAmortizacao());
+        assertEquals(new BigDecimal("0.00"), cronograma.get(2).getSaldoDevedor());
+    }
+
+    @Test
+    @DisplayName("Deve calcular as parcelas extremas e o total do resumo")
+    void deveCalcularResumo() {
+        // Given
+        TabelaTaxaProduto tabela = tabela("1.00");
+
+        // When
+        EstrategiaAmortizacao.ResumoAmortizacao resumo = amortizacaoSac.resumir(new BigDecimal("1000.00"), tabela, 4);
+        EstrategiaAmortizacao.ResumoAmortizacao parcelaUnica = amortizacaoSac.resumir(new BigDecimal("1000.00"), tabela, 1);
+
+        // Then
+        assertEquals(new BigDecimal("260.00"), resumo.primeiraParcela());
+        assertEquals(new BigDecimal("252.50"), resumo.ultimaParcela());
+        assertEquals(new BigDecimal("1025.00"), resumo.valorTotalComJuros());
+        assertEquals(new BigDecimal("1010.00"), parcelaUnica.primeiraParcela());
+        assertEquals(parcelaUnica.primeiraParcela(), parcelaUnica.ultimaParcela());
+    }
+
+    @Test
+    @DisplayName("Deve manter o resumo fiel ao cronograma: mesmas parcelas extremas e mesmo total")
+    void deveManterResumoFielAoCronograma() {
+        Random aleatorio = new Random(SEMENTE);
+        for (int caso = 0; caso < 500; caso++) {
+            // Given
+            TabelaTaxaProduto tabela = tabela(BigDecimal.valueOf(aleatorio.nextInt(600), 2).toPlainString());
+            BigDecimal valor = BigDecimal.valueOf(1 + aleatorio.nextInt(100_000_000), 2);
+            int prazo = 1 + aleatorio.nextInt(360);
+
+            // When
+            EstrategiaAmortizacao.ResumoAmortizacao resumo = amortizacaoSac.resumir(valor, tabela, prazo);
+            List<SimulacaoEmprestimoResponse.DetalhamentoMensal> cronograma = amortizacaoSac.gerarCronograma(valor, tabela, prazo);
+
+            // Then
+            String descricao = "valor " + valor + ", taxa " + tabela.getTaxaJurosEfetivaMensal() + ", prazo " + prazo;
+            BigDecimal somaParcelas = cronograma.stream()
+                .map(SimulacaoEmprestimoResponse.DetalhamentoMensal::getValorParcela)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(cronograma.get(0).getValorParcela(), resumo.primeiraParcela(), descricao);
+            assertEquals(cronograma.get(prazo - 1).getValorParcela(), resumo.ultimaParcela(), descricao);
+            assertEquals(somaParcelas, amortizacaoSac.somarParcelas(valor, tabela, prazo), descricao);
+            assertEquals(somaParcelas, resumo.valorTotalComJuros(), descricao);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir em centavos o mesmo cronograma do cálculo em BigDecimal")
+    void deveReproduzirCalculoEmBigDecimal() {
+        Random aleatorio = new Random(SEMENTE);
+        for (int caso = 0; caso < 500; caso++) {
+            // Given
+            TabelaTaxaProduto tabela = tabela(BigDecimal.valueOf(aleatorio.nextInt(600), 2).toPlainString());
+            BigDecimal valor = BigDecimal.valueOf(1 + aleatorio.nextInt(100_000_000), aleatorio.nextInt(3));
+            int prazo = 1 + aleatorio.nextInt(360);
+
+            // When
+            CronogramaAmortizacao emCentavos = AmortizacaoSac.gerarCronogramaEmCentavos(
+                valor, tabela.getTaxaJurosEfetivaMensal(), prazo, 1, prazo);
+            List<SimulacaoEmprestimoResponse.DetalhamentoMensal> referencia = new ArrayList<>();
+            amortizacaoSac.iterarCronograma(valor, tabela, prazo).forEachRemaining(referencia::add);
+
+            // Then
+            assertNotNull(emCentavos);
+            for (int mes = 0; mes < prazo; mes++) {
+                String descricao = "valor " + valor + ", prazo " + prazo + ", mês " + (mes + 1);
+                assertEquals(referencia.get(mes).getValorParcela(), emCentavos.get(mes).getValorParcela(), descricao);
+                assertEquals(referencia.get(mes).getJuros(), emCentavos.get(mes).getJuros(), descricao);
+                assertEquals(referencia.get(mes).getAmortizacao(), emCentavos.get(mes).getAmortizacao(), descricao);
+                assertEquals(referencia.get(mes).getSaldoDevedor(), emCentavos.get(mes).getSaldoDevedor(), descricao);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar o cálculo em BigDecimal quando o valor tem mais de duas casas")
+    void deveUsarBigDecimalComValorDeTresCasas() {
+        // Given
+        TabelaTaxaProduto tabela = tabela("1.00");
+
+        // When
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> cronograma =
+            amortizacaoSac.gerarCronograma(new BigDecimal("1000.005"), tabela, 2);
+
+        // Then
+        assertFalse(cronograma instanceof CronogramaAmortizacao);
+        assertEquals(new BigDecimal("500.00"), cronograma.get(0).getAmortizacao());
+        assertEquals(new BigDecimal("500.005"), cronograma.get(1).getAmortizacao());
+        assertEquals(0, cronograma.get(1).getSaldoDevedor().signum());
+    }
+
+    private static TabelaTaxaProduto tabela(String taxaJurosEfetivaMensal) {
+        return new TabelaTaxaProduto(BigDecimal.ZERO, 360, new BigDecimal(taxaJurosEfetivaMensal), null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.caixa.service;
+
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AquecimentoServiceTest {
+
+    @Mock
+    private ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    @Mock
+    private CalculoJurosService calculoJurosService;
+
+    @InjectMocks
+    private AquecimentoService aquecimentoService;
+
+    @Test
+    @DisplayName("Deve carregar o catálogo e pré-calcular a tabela de cada produto")
+    void deveCarregarCatalogoEPreCalcularTabelas() {
+        // Given
+        ProdutoEmprestimo pessoal = new ProdutoEmprestimo("Empréstimo Pessoal", new BigDecimal("18.00"), 60);
+        ProdutoEmprestimo consignado = new ProdutoEmprestimo("Empréstimo Consignado", new BigDecimal("12.00"), 84);
+        when(produtoEmprestimoCatalogo.listarTodos()).thenReturn(List.of(pessoal, consignado));
+
+        // When
+        aquecimentoService.aquecer();
+
+        // Then
+        assertTrue(aquecimentoService.isAquecido());
+        assertNull(aquecimentoService.getUltimoErro());
+        verify(produtoEmprestimoCatalogo, times(1)).recarregar();
+        verify(calculoJurosService, times(1)).aquecerTabela(pessoal);
+        verify(calculoJurosService, times(1)).aquecerTabela(consignado);
+    }
+
+    @Test
+    @DisplayName("Deve permanecer frio e registrar o erro quando o aquecimento falha")
+    void devePermanecerFrioQuandoAquecimentoFalha() {
+        // Given
+        doThrow(new IllegalStateException("Banco indisponível")).when(produtoEmprestimoCatalogo).recarregar();
+
+        // When
+        aquecimentoService.aquecer();
+
+        // Then
+        assertFalse(aquecimentoService.isAquecido());
+        assertEquals("Banco indisponível", aquecimentoService.getUltimoErro());
+        verifyNoInteractions(calculoJurosService);
+    }
+}
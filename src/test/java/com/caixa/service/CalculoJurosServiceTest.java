@@ -1,13 +1,22 @@
 package com.caixa.service;
 
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
 import com.caixa.service.CalculoJurosService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -438,4 +447,346 @@ class CalculoJurosServiceTest {
         assertTrue(response.taxaJurosEfetivaMensal.compareTo(produto.taxaJurosAnual) < 0);
     }
 
+    @Test
+    @DisplayName("Deve calcular parcela idêntica à potência exata para todos os prazos")
+    void deveCalcularParcelaIdenticaAPotenciaExata() {
+        // Given - taxas dos produtos de import.sql e prazos até 360 meses
+        BigDecimal valorSolicitado = new BigDecimal("250000.00");
+        String[] taxasAnuais = {"18.00", "12.00", "8.50", "15.00", "22.00"};
+
+        for (String taxaAnual : taxasAnuais) {
+            BigDecimal taxaMensal = calculoJurosService.calcularTaxaJurosEfetivaMensal(new BigDecimal(taxaAnual));
+            BigDecimal taxaDecimal = taxaMensal.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+            BigDecimal umMaisTaxa = BigDecimal.ONE.add(taxaDecimal);
+            BigDecimal potenciaExata = BigDecimal.ONE;
+
+            for (int prazo = 1; prazo <= 360; prazo++) {
+                // Referência: multiplicação iterativa sem arredondamento
+                potenciaExata = potenciaExata.multiply(umMaisTaxa);
+                BigDecimal fator = taxaDecimal.multiply(potenciaExata)
+                    .divide(potenciaExata.subtract(BigDecimal.ONE), 10, RoundingMode.HALF_UP);
+                BigDecimal esperado = valorSolicitado.multiply(fator).setScale(2, RoundingMode.HALF_UP);
+
+                // When
+                BigDecimal valorParcela = calculoJurosService.calcularValorParcela(valorSolicitado, taxaMensal, prazo);
+
+                // Then
+                assertEquals(esperado, valorParcela, "taxa " + taxaAnual + ", prazo " + prazo);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar o cálculo exato para taxas e prazos fora da grade de fatores")
+    void deveUsarCalculoExatoForaDaGrade() {
+        // Given - taxa com três casas, taxa acima de 6% a.m. e prazo acima de 360 meses
+        BigDecimal valorSolicitado = new BigDecimal("100000.00");
+        Object[][] casos = {{"1.234", 120}, {"7.50", 24}, {"1.00", 420}};
+
+        for (Object[] caso : casos) {
+            BigDecimal taxaMensal = new BigDecimal((String) caso[0]);
+            int prazo = (Integer) caso[1];
+            BigDecimal taxaDecimal = taxaMensal.divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+            BigDecimal potenciaExata = BigDecimal.ONE.add(taxaDecimal).pow(prazo);
+            BigDecimal fator = taxaDecimal.multiply(potenciaExata)
+                .divide(potenciaExata.subtract(BigDecimal.ONE), 10, RoundingMode.HALF_UP);
+
+            // When
+            BigDecimal valorParcela = calculoJurosService.calcularValorParcela(valorSolicitado, taxaMensal, prazo);
+
+            // Then
+            assertEquals(valorSolicitado.multiply(fator).setScale(2, RoundingMode.HALF_UP), valorParcela,
+                "taxa " + caso[0] + ", prazo " + prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar tabela do produto com mesma parcela do cálculo direto")
+    void deveUsarTabelaDoProdutoComMesmaParcelaDoCalculoDireto() {
+        // Given
+        produto.id = 3L;
+        produto.taxaJurosAnual = new BigDecimal("8.50");
+        produto.prazoMaximoMeses = 360;
+        BigDecimal valorSolicitado = new BigDecimal("300000.00");
+        BigDecimal taxaMensal = calculoJurosService.calcularTaxaJurosEfetivaMensal(produto.taxaJurosAnual);
+
+        for (int prazo : new int[] {1, 12, 60, 84, 360}) {
+            // When
+            SimulacaoEmprestimoResponse simulacao = calculoJurosService.simularEmprestimo(produto, valorSolicitado, prazo);
+
+            // Then
+            BigDecimal esperado = calculoJurosService.calcularValorParcela(valorSolicitado, taxaMensal, prazo);
+            assertEquals(taxaMensal, simulacao.getTaxaJurosEfetivaMensal());
+            assertEquals(esperado, simulacao.getMemoriaCalculo().get(0).getValorParcela());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar tabela do produto entre simulações")
+    void deveReaproveitarTabelaDoProdutoEntreSimulacoes() {
+        // Given
+        produto.id = 1L;
+
+        // When
+        TabelaTaxaProduto primeira = calculoJurosService.obterTabela(produto);
+        TabelaTaxaProduto segunda = calculoJurosService.obterTabela(produto);
+
+        // Then
+        assertSame(primeira, segunda);
+        assertEquals(produto.prazoMaximoMeses, primeira.getPrazoMaximoMeses());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir tabela quando produto é alterado ou invalidado")
+    void deveReconstruirTabelaQuandoProdutoEAlteradoOuInvalidado() {
+        // Given
+        produto.id = 1L;
+        TabelaTaxaProduto original = calculoJurosService.obterTabela(produto);
+
+        // When - taxa alterada sem invalidação explícita
+        produto.taxaJurosAnual = new BigDecimal("18.00");
+        TabelaTaxaProduto alterada = calculoJurosService.obterTabela(produto);
+
+        // Then
+        assertNotSame(original, alterada);
+        assertEquals(calculoJurosService.calcularTaxaJurosEfetivaMensal(new BigDecimal("18.00")),
+            alterada.getTaxaJurosEfetivaMensal());
+
+        // When - invalidação explícita
+        calculoJurosService.invalidarTabela(1L);
+
+        // Then
+        assertNotSame(alterada, calculoJurosService.obterTabela(produto));
+    }
+
+    @Test
+    @DisplayName("Deve simular pela tabela com taxa zero")
+    void deveSimularPelaTabelaComTaxaZero() {
+        // Given
+        produto.id = 2L;
+        produto.taxaJurosAnual = BigDecimal.ZERO;
+
+        // When
+        SimulacaoEmprestimoResponse simulacao = calculoJurosService.simularEmprestimo(produto, new BigDecimal("5000.00"), 24);
+
+        // Then
+        assertEquals(new BigDecimal("208.33"), simulacao.getMemoriaCalculo().get(0).getValorParcela());
+        assertNull(calculoJurosService.obterTabela(produto).fator(24));
+    }
+
+    @Test
+    @DisplayName("Deve gerar detalhamento sob demanda idêntico ao da simulação completa")
+    void deveGerarDetalhamentoSobDemandaIdenticoAoCompleto() {
+        // Given
+        BigDecimal valorSolicitado = new BigDecimal("1234.56789");
+        int prazoMeses = 24;
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> completo =
+            calculoJurosService.simularEmprestimo(produto, valorSolicitado, prazoMeses).getMemoriaCalculo();
+
+        // When
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> sobDemanda = new ArrayList<>();
+        calculoJurosService.simularDetalhamentoMensal(produto, valorSolicitado, prazoMeses).forEach(sobDemanda::add);
+
+        // Then
+        assertEquals(completo.size(), sobDemanda.size());
+        for (int i = 0; i < completo.size(); i++) {
+            assertEquals(completo.get(i).getMes(), sobDemanda.get(i).getMes());
+            assertEquals(completo.get(i).getValorParcela(), sobDemanda.get(i).getValorParcela());
+            assertEquals(completo.get(i).getJuros(), sobDemanda.get(i).getJuros());
+            assertEquals(completo.get(i).getAmortizacao(), sobDemanda.get(i).getAmortizacao());
+            assertEquals(completo.get(i).getSaldoDevedor(), sobDemanda.get(i).getSaldoDevedor());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o detalhamento sob demanda após o último mês")
+    void deveEncerrarDetalhamentoSobDemandaAposUltimoMes() {
+        // Given
+        Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses =
+            calculoJurosService.simularDetalhamentoMensal(produto, new BigDecimal("5000.00"), 2).iterator();
+
+        // When
+        assertEquals(1, meses.next().getMes());
+        assertEquals(2, meses.next().getMes());
+
+        // Then
+        assertFalse(meses.hasNext());
+        assertThrows(NoSuchElementException.class, meses::next);
+    }
+
+    @Test
+    @DisplayName("Deve validar parâmetros antes de gerar o detalhamento sob demanda")
+    void deveValidarParametrosAntesDoDetalhamentoSobDemanda() {
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularDetalhamentoMensal(null, new BigDecimal("5000.00"), 12));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularDetalhamentoMensal(produto, new BigDecimal("5000.00"), 100));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularDetalhamentoMensal(produto, BigDecimal.ZERO, 12));
+    }
+
+    @Test
+    @DisplayName("Deve gerar resumo com os mesmos valores da simulação completa")
+    void deveGerarResumoComMesmosValoresDaSimulacaoCompleta() {
+        // Given
+        produto.id = 1L;
+        BigDecimal valorSolicitado = new BigDecimal("5000.00");
+        int prazoMeses = 24;
+        SimulacaoEmprestimoResponse completa = calculoJurosService.simularEmprestimo(produto, valorSolicitado, prazoMeses);
+
+        // When
+        SimulacaoResumoResponse resumo = calculoJurosService.simularResumo(produto, valorSolicitado, prazoMeses);
+
+        // Then
+        assertEquals(1L, resumo.getIdProduto());
+        assertEquals(produto.nome, resumo.getNomeProduto());
+        assertEquals(completa.getTaxaJurosAnual(), resumo.getTaxaJurosAnual());
+        assertEquals(completa.getTaxaJurosEfetivaMensal(), resumo.getTaxaJurosEfetivaMensal());
+        assertEquals(valorSolicitado, resumo.getValorSolicitado());
+        assertEquals(prazoMeses, resumo.getPrazoMeses());
+        assertEquals(completa.getMemoriaCalculo().get(0).getValorParcela(), resumo.getValorParcela());
+        assertEquals(completa.getValorTotalComJuros(), resumo.getValorTotalComJuros());
+    }
+
+    @Test
+    @DisplayName("Deve simular pelo SAC com parcelas decrescentes e total igual à soma das parcelas")
+    void deveSimularPeloSac() {
+        // Given - produto imobiliário do import.sql
+        produto.id = 3L;
+        produto.taxaJurosAnual = new BigDecimal("8.50");
+        produto.prazoMaximoMeses = 360;
+        BigDecimal valorSolicitado = new BigDecimal("300000.00");
+
+        // When
+        SimulacaoEmprestimoResponse sac = calculoJurosService.simularEmprestimo(produto, valorSolicitado, 360, SistemaAmortizacao.SAC);
+        SimulacaoEmprestimoResponse price = calculoJurosService.simularEmprestimo(produto, valorSolicitado, 360);
+
+        // Then
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = sac.getMemoriaCalculo();
+        assertEquals(SistemaAmortizacao.SAC, sac.getSistemaAmortizacao());
+        assertEquals(SistemaAmortizacao.PRICE, price.getSistemaAmortizacao());
+        assertEquals(360, meses.size());
+        assertEquals(new BigDecimal("833.33"), meses.get(0).getAmortizacao());
+        assertTrue(meses.get(0).getValorParcela().compareTo(meses.get(359).getValorParcela()) > 0);
+        assertEquals(meses.stream().map(SimulacaoEmprestimoResponse.DetalhamentoMensal::getValorParcela)
+            .reduce(BigDecimal.ZERO, BigDecimal::add), sac.getValorTotalComJuros());
+        assertTrue(sac.getValorTotalComJuros().compareTo(price.getValorTotalComJuros()) < 0);
+    }
+
+    @Test
+    @DisplayName("Deve resumir o SAC com primeira e última parcela do cronograma")
+    void deveResumirSacComParcelasDoCronograma() {
+        // Given
+        produto.id = 1L;
+        BigDecimal valorSolicitado = new BigDecimal("5000.00");
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = new ArrayList<>();
+        calculoJurosService.simularDetalhamentoMensal(produto, valorSolicitado, 24, SistemaAmortizacao.SAC).forEach(meses::add);
+
+        // When
+        SimulacaoResumoResponse resumo = calculoJurosService.simularResumo(produto, valorSolicitado, 24, SistemaAmortizacao.SAC);
+        SimulacaoResumoResponse resumoPrice = calculoJurosService.simularResumo(produto, valorSolicitado, 24);
+
+        // Then
+        assertEquals(SistemaAmortizacao.SAC, resumo.getSistemaAmortizacao());
+        assertEquals(meses.get(0).getValorParcela(), resumo.getValorParcela());
+        assertEquals(meses.get(23).getValorParcela(), resumo.getValorUltimaParcela());
+        assertEquals(resumoPrice.getValorParcela(), resumoPrice.getValorUltimaParcela());
+    }
+
+    @Test
+    @DisplayName("Deve validar parâmetros na simulação resumida")
+    void deveValidarParametrosNaSimulacaoResumida() {
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularResumo(null, new BigDecimal("5000.00"), 12));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularResumo(produto, new BigDecimal("5000.00"), 100));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.simularResumo(produto, null, 12));
+    }
+
+    @Test
+    @DisplayName("Deve medir o tempo de geração do cronograma")
+    void deveMedirTempoDeGeracaoDoCronograma() {
+        // Given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CalculoJurosService servicoInstrumentado = new CalculoJurosService(new SimulacaoMetricas(registry));
+
+        // When
+        servicoInstrumentado.simularEmprestimo(produto, new BigDecimal("5000.00"), 12);
+        servicoInstrumentado.simularResumo(produto, new BigDecimal("5000.00"), 12);
+
+        // Then
+        assertEquals(1, registry.get(SimulacaoMetricas.CRONOGRAMA_DURACAO).timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o maior valor cuja parcela cabe na parcela desejada")
+    void deveCalcularValorMaximoParaParcelaDesejada() {
+        ProdutoEmprestimo semJuros = new ProdutoEmprestimo("Sem juros", new BigDecimal("0.00"), 24);
+        Random aleatorio = new Random(20241018L);
+
+        for (int caso = 0; caso < 500; caso++) {
+            // Given
+            ProdutoEmprestimo alvo = caso % 5 == 0 ? semJuros : produto;
+            BigDecimal parcelaDesejada = BigDecimal.valueOf(1 + aleatorio.nextInt(1_000_000), 2);
+            int prazo = 1 + aleatorio.nextInt(24);
+
+            // When
+            BigDecimal valorMaximo = calculoJurosService.calcularValorMaximo(alvo, parcelaDesejada, prazo);
+
+            // Then
+            String descricao = "taxa=" + alvo.taxaJurosAnual + " parcela=" + parcelaDesejada + " prazo=" + prazo;
+            assertEquals(2, valorMaximo.scale(), descricao);
+            assertTrue(calculoJurosService.simularResumo(alvo, valorMaximo, prazo).getValorParcela()
+                .compareTo(parcelaDesejada) <= 0, descricao);
+            assertTrue(calculoJurosService.simularResumo(alvo, valorMaximo.add(new BigDecimal("0.01")), prazo).getValorParcela()
+                .compareTo(parcelaDesejada) > 0, descricao);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valor máximo sem solução ou com prazo acima do máximo do produto")
+    void deveRejeitarValorMaximoSemSolucao() {
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.calcularValorMaximo(produto, new BigDecimal("0.001"), 1));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.calcularValorMaximo(produto, new BigDecimal("1500.00"), 25));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.calcularValorMaximo(produto, BigDecimal.ZERO, 12));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o menor prazo em que o valor cabe na parcela desejada")
+    void deveCalcularPrazoMinimoParaParcelaDesejada() {
+        // Given
+        BigDecimal valor = new BigDecimal("10000.00");
+        BigDecimal parcela12 = calculoJurosService.simularResumo(produto, valor, 12).getValorParcela();
+
+        // When / Then
+        assertEquals(12, calculoJurosService.calcularPrazoMinimo(produto, valor, parcela12));
+        assertEquals(13, calculoJurosService.calcularPrazoMinimo(produto, valor, parcela12.subtract(new BigDecimal("0.01"))));
+        assertEquals(1, calculoJurosService.calcularPrazoMinimo(produto, valor, new BigDecimal("20000.00")));
+
+        for (int prazo = 1; prazo <= produto.prazoMaximoMeses; prazo++) {
+            BigDecimal parcela = calculoJurosService.simularResumo(produto, valor, prazo).getValorParcela();
+            int prazoMinimo = calculoJurosService.calcularPrazoMinimo(produto, valor, parcela);
+            assertTrue(prazoMinimo <= prazo, "prazo=" + prazo);
+            assertEquals(parcela, calculoJurosService.simularResumo(produto, valor, prazoMinimo).getValorParcela(), "prazo=" + prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar prazo mínimo quando nenhum prazo do produto comporta a parcela")
+    void deveRejeitarPrazoMinimoSemSolucao() {
+        BigDecimal valor = new BigDecimal("10000.00");
+        BigDecimal parcelaPrazoMaximo = calculoJurosService.simularResumo(produto, valor, 24).getValorParcela();
+
+        assertEquals(24, calculoJurosService.calcularPrazoMinimo(produto, valor, parcelaPrazoMaximo));
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.calcularPrazoMinimo(produto, valor, parcelaPrazoMaximo.subtract(new BigDecimal("0.01"))));
+        assertTrue(erro.getMessage().contains("24 meses"));
+        assertThrows(IllegalArgumentException.class, () ->
+            calculoJurosService.calcularPrazoMinimo(produto, valor, BigDecimal.ZERO));
+    }
+
 }
@@ -0,0 +1,231 @@
+package com.caixa.service;
+
+import com.caixa.dto.CronogramaAmortizacao;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara o motor em centavos com o cálculo de referência em BigDecimal. Os casos são
+ * gerados a partir de uma semente fixa para que qualquer divergência seja reproduzível.
+ */
+class CronogramaCentavosTest {
+
+    private static final long SEMENTE = 20240611L;
+
+    private static final List<BigDecimal> VALORES_FIXOS = List.of(
+        new BigDecimal("0.01"), new BigDecimal("1"), new BigDecimal("99.9"), new BigDecimal("1000.00"),
+        new BigDecimal("5000.50"), new BigDecimal("12345.67"), new BigDecimal("250000"), new BigDecimal("9999999.99"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CalculoJurosService calculoJurosService;
+
+    @BeforeEach
+    void setUp() {
+        calculoJurosService = new CalculoJurosService();
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir o cálculo em BigDecimal para todos os produtos e prazos do import.sql")
+    void deveReproduzirCalculoParaProdutosEPrazosCadastrados() {
+        List<ProdutoEmprestimo> produtos = List.of(
+            produto(1L, "18.00", 60), produto(2L, "12.00", 84), produto(3L, "8.50", 360),
+            produto(4L, "15.00", 48), produto(5L, "22.00", 24));
+
+        for (ProdutoEmprestimo produto : produtos) {
+            for (int prazo = 1; prazo <= produto.prazoMaximoMeses; prazo++) {
+                for (BigDecimal valor : VALORES_FIXOS) {
+                    compararMotores(produto, valor, prazo);
+                    compararCronogramaEmColunas(produto, valor, prazo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir o cálculo em BigDecimal para taxas, prazos e valores aleatórios")
+    void deveReproduzirCalculoParaCasosAleatorios() {
+        Random aleatorio = new Random(SEMENTE);
+
+        for (int caso = 0; caso < 2_000; caso++) {
+            BigDecimal taxaAnual = BigDecimal.valueOf(aleatorio.nextInt(10_001), 2);
+            int prazo = 1 + aleatorio.nextInt(420);
+            BigDecimal valor = BigDecimal.valueOf(1 + (aleatorio.nextLong() & Long.MAX_VALUE) % 100_000_000_000L,
+                aleatorio.nextInt(3));
+
+            compararMotores(produto(null, taxaAnual.toPlainString(), prazo), valor, prazo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar o motor em centavos somente quando o resultado é idêntico")
+    void deveUsarMotorEmCentavosSomenteQuandoResultadoIdentico() {
+        BigDecimal parcela = new BigDecimal("470.73");
+        BigDecimal taxa = new BigDecimal("1.39");
+
+        assertNotNull(CronogramaCentavos.criar(new BigDecimal("10000.00"), parcela, taxa, 24));
+        assertNotNull(CronogramaCentavos.criar(new BigDecimal("10000"), parcela, taxa, 24));
+        assertNull(CronogramaCentavos.criar(new BigDecimal("10000.005"), parcela, taxa, 24));
+        assertNull(CronogramaCentavos.criar(new BigDecimal("10000.000"), parcela, taxa, 24));
+        assertNull(CronogramaCentavos.criar(new BigDecimal("1E+30"), parcela, taxa, 24));
+    }
+
+    @Test
+    @DisplayName("Deve recorrer ao BigDecimal quando o valor tem mais de duas casas")
+    void deveRecorrerAoBigDecimalQuandoValorTemMaisDeDuasCasas() {
+        compararMotores(produto(1L, "18.00", 60), new BigDecimal("10000.005"), 36);
+        compararMotores(produto(1L, "18.00", 60), new BigDecimal("10000.000"), 12);
+    }
+
+    @Test
+    @DisplayName("Deve zerar o saldo com BigDecimal.ZERO quando ele ficaria negativo")
+    void deveZerarSaldoComoNoCalculoEmBigDecimal() {
+        // Com taxa zero e parcela arredondada para cima o saldo fica negativo no último mês
+        ProdutoEmprestimo semJuros = produto(9L, "0.00", 12);
+        BigDecimal valor = new BigDecimal("200.00");
+
+        SimulacaoEmprestimoResponse simulacao = calculoJurosService.simularEmprestimo(semJuros, valor, 3);
+
+        SimulacaoEmprestimoResponse.DetalhamentoMensal ultimo = simulacao.getMemoriaCalculo().get(2);
+        assertSame(BigDecimal.ZERO, ultimo.getSaldoDevedor());
+        compararMotores(semJuros, valor, 3);
+    }
+
+    private void compararMotores(ProdutoEmprestimo produto, BigDecimal valor, int prazo) {
+        TabelaTaxaProduto tabela = calculoJurosService.obterTabela(produto);
+        BigDecimal taxaMensal = tabela.getTaxaJurosEfetivaMensal();
+        BigDecimal parcela = calculoJurosService.simularResumo(produto, valor, prazo).getValorParcela();
+
+        Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> esperado =
+            calculoJurosService.iterarDetalhamentoMensalBigDecimal(valor, parcela, taxaMensal, prazo);
+        Iterator<SimulacaoEmprestimoResponse.DetalhamentoMensal> obtido =
+            calculoJurosService.iterarDetalhamentoMensal(valor, parcela, taxaMensal, prazo);
+
+        String caso = "taxa=" + produto.taxaJurosAnual + " valor=" + valor + " prazo=" + prazo;
+        while (esperado.hasNext()) {
+            assertTrue(obtido.hasNext(), caso);
+            SimulacaoEmprestimoResponse.DetalhamentoMensal mesEsperado = esperado.next();
+            SimulacaoEmprestimoResponse.DetalhamentoMensal mesObtido = obtido.next();
+            String mes = caso + " mes=" + mesEsperado.getMes();
+
+            // equals de BigDecimal compara também a escala, como a serialização JSON
+            assertEquals(mesEsperado.getMes(), mesObtido.getMes(), mes);
+            assertEquals(mesEsperado.getValorParcela(), mesObtido.getValorParcela(), mes);
+            assertEquals(mesEsperado.getJuros(), mesObtido.getJuros(), mes);
+            assertEquals(mesEsperado.getAmortizacao(), mesObtido.getAmortizacao(), mes);
+            assertEquals(mesEsperado.getSaldoDevedor(), mesObtido.getSaldoDevedor(), mes);
+        }
+        assertFalse(obtido.hasNext(), caso);
+    }
+
+    @Test
+    @DisplayName("Deve manter o cronograma em lista quando o valor não cabe em centavos")
+    void deveManterCronogramaEmListaQuandoValorNaoCabeEmCentavos() {
+        ProdutoEmprestimo produto = produto(1L, "18.00", 60);
+
+        assertInstanceOf(CronogramaAmortizacao.class,
+            calculoJurosService.simularEmprestimo(produto, new BigDecimal("10000.00"), 12).getMemoriaCalculo());
+        assertInstanceOf(ArrayList.class,
+            calculoJurosService.simularEmprestimo(produto, new BigDecimal("10000.005"), 12).getMemoriaCalculo());
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir qualquer intervalo de meses do cronograma completo")
+    void deveReproduzirIntervaloDoCronogramaCompleto() throws JsonProcessingException {
+        ProdutoEmprestimo produto = produto(3L, "8.50", 360);
+        int[][] intervalos = {{1, 1}, {1, 360}, {12, 13}, {24, 24}, {100, 150}, {349, 360}, {360, 360}};
+
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            for (BigDecimal valor : List.of(new BigDecimal("250000.00"), new BigDecimal("12345.678"))) {
+                List<SimulacaoEmprestimoResponse.DetalhamentoMensal> completo =
+                    calculoJurosService.simularEmprestimo(produto, valor, 360, sistema).getMemoriaCalculo();
+
+                for (int[] intervalo : intervalos) {
+                    List<SimulacaoEmprestimoResponse.DetalhamentoMensal> obtido = calculoJurosService.simularIntervalo(
+                        produto, valor, 360, sistema, intervalo[0], intervalo[1]);
+
+                    assertEquals(objectMapper.writeValueAsString(completo.subList(intervalo[0] - 1, intervalo[1])),
+                        objectMapper.writeValueAsString(obtido),
+                        sistema + " valor=" + valor + " meses=" + intervalo[0] + ".." + intervalo[1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter na simulação com janela de meses o total e os meses da simulação completa")
+    void deveManterTotalEMesesNaSimulacaoComJanela() {
+        ProdutoEmprestimo produto = produto(1L, "18.00", 60);
+
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            for (BigDecimal valor : List.of(new BigDecimal("10000.00"), new BigDecimal("9999.999"), new BigDecimal("1E+30"))) {
+                SimulacaoEmprestimoResponse completa = calculoJurosService.simularEmprestimo(produto, valor, 60, sistema);
+                SimulacaoEmprestimoResponse janela = calculoJurosService.simularEmprestimo(produto, valor, 60, sistema, 13, 24);
+
+                String caso = sistema + " valor=" + valor;
+                assertEquals(completa.getValorTotalComJuros(), janela.getValorTotalComJuros(), caso);
+                assertEquals(completa.getTaxaJurosEfetivaMensal(), janela.getTaxaJurosEfetivaMensal(), caso);
+                assertEquals(sistema, janela.getSistemaAmortizacao(), caso);
+                assertEquals(12, janela.getMemoriaCalculo().size(), caso);
+                for (int i = 0; i < 12; i++) {
+                    SimulacaoEmprestimoResponse.DetalhamentoMensal esperado = completa.getMemoriaCalculo().get(12 + i);
+                    SimulacaoEmprestimoResponse.DetalhamentoMensal obtido = janela.getMemoriaCalculo().get(i);
+                    assertEquals(esperado.getMes(), obtido.getMes(), caso);
+                    assertEquals(esperado.getValorParcela(), obtido.getValorParcela(), caso);
+                    assertEquals(esperado.getSaldoDevedor(), obtido.getSaldoDevedor(), caso);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar intervalo de meses fora do prazo")
+    void deveRejeitarIntervaloForaDoPrazo() {
+        ProdutoEmprestimo produto = produto(1L, "18.00", 60);
+        BigDecimal valor = new BigDecimal("10000.00");
+
+        assertThrows(IllegalArgumentException.class,
+            () -> calculoJurosService.simularIntervalo(produto, valor, 24, SistemaAmortizacao.PRICE, 0, 3));
+        assertThrows(IllegalArgumentException.class,
+            () -> calculoJurosService.simularIntervalo(produto, valor, 24, SistemaAmortizacao.PRICE, 5, 4));
+        assertThrows(IllegalArgumentException.class,
+            () -> calculoJurosService.simularIntervalo(produto, valor, 24, SistemaAmortizacao.SAC, 20, 25));
+    }
+
+    private void compararCronogramaEmColunas(ProdutoEmprestimo produto, BigDecimal valor, int prazo) {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> emColunas =
+            calculoJurosService.simularEmprestimo(produto, valor, prazo).getMemoriaCalculo();
+
+        BigDecimal parcela = emColunas.get(0).getValorParcela();
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> referencia = new ArrayList<>();
+        calculoJurosService.iterarDetalhamentoMensalBigDecimal(valor, parcela,
+            calculoJurosService.obterTabela(produto).getTaxaJurosEfetivaMensal(), prazo).forEachRemaining(referencia::add);
+
+        try {
+            assertEquals(objectMapper.writeValueAsString(referencia), objectMapper.writeValueAsString(emColunas),
+                "taxa=" + produto.taxaJurosAnual + " valor=" + valor + " prazo=" + prazo);
+        } catch (JsonProcessingException e) {
+            fail(e);
+        }
+    }
+
+    private static ProdutoEmprestimo produto(Long id, String taxaAnual, int prazoMaximo) {
+        ProdutoEmprestimo produto = new ProdutoEmprestimo("Produto " + taxaAnual, new BigDecimal(taxaAnual), prazoMaximo);
+        produto.id = id;
+        return produto;
+    }
+}
@@ -0,0 +1,80 @@
+package com.caixa.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutorSimulacaoLoteTest {
+
+    @Test
+    @DisplayName("Deve executar as tarefas nas threads dedicadas ao lote")
+    void deveExecutarNasThreadsDedicadas() {
+        // Given
+        ExecutorSimulacaoLote executor = new ExecutorSimulacaoLote(2, 10);
+
+        // When
+        String thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join();
+        executor.encerrar();
+
+        // Then
+        assertTrue(thread.startsWith("simulacao-lote-"), thread);
+    }
+
+    @Test
+    @DisplayName("Deve executar na thread chamadora quando as threads e a fila estão ocupadas")
+    void deveExecutarNaThreadChamadoraComFilaCheia() throws Exception {
+        // Given
+        ExecutorSimulacaoLote executor = new ExecutorSimulacaoLote(1, 1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        executor.execute(() -> aguardar(liberar));
+        executor.execute(() -> { });
+
+        // When
+        String thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join();
+        liberar.countDown();
+        List<Integer> restantes = IntStream.range(0, 5)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> i, executor))
+            .map(CompletableFuture::join)
+            .toList();
+        executor.encerrar();
+
+        // Then
+        assertEquals(Thread.currentThread().getName(), thread);
+        assertEquals(List.of(0, 1, 2, 3, 4), restantes);
+    }
+
+    @Test
+    @DisplayName("Deve usar uma thread por processador quando o número de threads não é configurado")
+    void deveUsarProcessadoresDisponiveisPorPadrao() {
+        // When
+        ExecutorSimulacaoLote executor = new ExecutorSimulacaoLote(Optional.empty(), 10);
+
+        // Then
+        assertEquals(Runtime.getRuntime().availableProcessors(), executor.threads());
+        executor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar threads ou fila não positivas")
+    void deveRejeitarConfiguracaoInvalida() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorSimulacaoLote(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ExecutorSimulacaoLote(2, 0));
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
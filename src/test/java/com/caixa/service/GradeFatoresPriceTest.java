@@ -0,0 +1,74 @@
+package com.caixa.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeFatoresPriceTest {
+
+    @Test
+    @DisplayName("Deve converter taxas com até duas casas decimais em centésimos")
+    void deveConverterTaxasEmCentesimos() {
+        // Then
+        assertEquals(125, GradeFatoresPrice.indiceTaxa(new BigDecimal("1.25")));
+        assertEquals(150, GradeFatoresPrice.indiceTaxa(new BigDecimal("1.5")));
+        assertEquals(130, GradeFatoresPrice.indiceTaxa(new BigDecimal("1.3000")));
+        assertEquals(600, GradeFatoresPrice.indiceTaxa(new BigDecimal("6.00")));
+    }
+
+    @Test
+    @DisplayName("Deve deixar fora da grade taxas zero, com mais casas ou acima do limite")
+    void deveDeixarForaDaGradeTaxasInvalidas() {
+        // Then
+        assertEquals(-1, GradeFatoresPrice.indiceTaxa(BigDecimal.ZERO));
+        assertEquals(-1, GradeFatoresPrice.indiceTaxa(new BigDecimal("1.234")));
+        assertEquals(-1, GradeFatoresPrice.indiceTaxa(new BigDecimal("6.01")));
+        assertEquals(-1, GradeFatoresPrice.indiceTaxa(new BigDecimal("-1.00")));
+    }
+
+    @Test
+    @DisplayName("Deve calcular cada linha uma única vez e ler o fator do prazo")
+    void deveCalcularLinhaUmaUnicaVez() {
+        // Given
+        AtomicInteger linhasCalculadas = new AtomicInteger();
+        GradeFatoresPrice grade = new GradeFatoresPrice(taxa -> {
+            linhasCalculadas.incrementAndGet();
+            long[] linha = new long[GradeFatoresPrice.PRAZO_MAXIMO_MESES + 1];
+            for (int prazo = 1; prazo < linha.length; prazo++) {
+                linha[prazo] = taxa * 1000L + prazo;
+            }
+            return linha;
+        });
+
+        // When
+        BigDecimal fator12 = grade.fator(new BigDecimal("1.25"), 12);
+        BigDecimal fator360 = grade.fator(new BigDecimal("1.250"), 360);
+        long[] linha = grade.linha(new BigDecimal("1.25"), 120);
+
+        // Then
+        assertEquals(BigDecimal.valueOf(125012L, GradeFatoresPrice.ESCALA_FATOR), fator12);
+        assertEquals(BigDecimal.valueOf(125360L, GradeFatoresPrice.ESCALA_FATOR), fator360);
+        assertEquals(125120L, linha[120]);
+        assertEquals(1, linhasCalculadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo para prazos fora da grade")
+    void deveRetornarNuloParaPrazosForaDaGrade() {
+        // Given
+        GradeFatoresPrice grade = new GradeFatoresPrice(taxa -> {
+            throw new AssertionError("Linha não deveria ser calculada");
+        });
+
+        // Then
+        assertNull(grade.fator(new BigDecimal("1.25"), 0));
+        assertNull(grade.fator(new BigDecimal("1.25"), GradeFatoresPrice.PRAZO_MAXIMO_MESES + 1));
+        assertNull(grade.fator(new BigDecimal("1.255"), 12));
+        assertNull(grade.linha(new BigDecimal("1.25"), GradeFatoresPrice.PRAZO_MAXIMO_MESES + 1));
+        assertNull(grade.linha(new BigDecimal("1.255"), 12));
+    }
+}
@@ -0,0 +1,104 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeitorCsvProdutosTest {
+
+    @Test
+    @DisplayName("Deve ler produtos localizando as colunas pelo cabeçalho")
+    void deveLerProdutosPeloCabecalho() {
+        // Given
+        LeitorCsvProdutos leitor = leitor("\uFEFFid,prazoMaximoMeses,nome,taxaJurosAnual\n"
+            + "7,60,Empréstimo Pessoal,18.00\n"
+            + "\n"
+            + "8,84,\"Consignado, \"\"INSS\"\"\",12.5\n");
+
+        // When
+        ProdutoEmprestimoRequest primeiro = leitor.next();
+        ProdutoEmprestimoRequest segundo = leitor.next();
+
+        // Then
+        assertEquals("Empréstimo Pessoal", primeiro.getNome());
+        assertEquals(new BigDecimal("18.00"), primeiro.getTaxaJurosAnual());
+        assertEquals(60, primeiro.getPrazoMaximoMeses());
+        assertEquals("Consignado, \"INSS\"", segundo.getNome());
+        assertEquals("linha 4", leitor.posicao());
+        assertFalse(leitor.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve deixar campos vazios como nulos para a validação")
+    void deveDeixarCamposVaziosComoNulos() {
+        // Given
+        LeitorCsvProdutos leitor = leitor("nome,taxaJurosAnual,prazoMaximoMeses\n ,10.00,\n");
+
+        // When
+        ProdutoEmprestimoRequest produto = leitor.next();
+
+        // Then
+        assertNull(produto.getNome());
+        assertNull(produto.getPrazoMaximoMeses());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cabeçalho incompleto, números inválidos e aspas abertas")
+    void deveRejeitarConteudoMalformado() {
+        // Then
+        assertThrows(BadRequestException.class, () -> leitor(""));
+        assertThrows(BadRequestException.class, () -> leitor("nome,taxaJurosAnual\nA,1.00\n"));
+
+        LeitorCsvProdutos numeroInvalido = leitor("nome,taxaJurosAnual,prazoMaximoMeses\nA,dez,12\n");
+        BadRequestException erro = assertThrows(BadRequestException.class, numeroInvalido::next);
+        assertTrue(erro.getMessage().contains("linha 2"));
+
+        LeitorCsvProdutos aspasAbertas = leitor("nome,taxaJurosAnual,prazoMaximoMeses\n\"A,1.00,12\n");
+        BadRequestException erroAspas = assertThrows(BadRequestException.class, aspasAbertas::next);
+        assertTrue(erroAspas.getMessage().contains("linha 2"));
+    }
+
+    @Test
+    @DisplayName("Deve ler de volta nomes com quebra de linha escritos pela exportação")
+    void deveLerNomesComQuebraDeLinha() {
+        // Given
+        String nome = "Crédito \"Rural\",\nsafra 2024\n";
+        LeitorCsvProdutos leitor = leitor("nome,taxaJurosAnual,prazoMaximoMeses\n"
+            + LeitorCsvProdutos.escapar(nome) + ",10.00,12\n"
+            + "Pessoal,18.00,60\n");
+
+        // When
+        ProdutoEmprestimoRequest primeiro = leitor.next();
+        String posicaoPrimeiro = leitor.posicao();
+        ProdutoEmprestimoRequest segundo = leitor.next();
+
+        // Then
+        assertEquals(nome.trim(), primeiro.getNome());
+        assertEquals(12, primeiro.getPrazoMaximoMeses());
+        assertEquals("linha 2", posicaoPrimeiro);
+        assertEquals("Pessoal", segundo.getNome());
+        assertEquals("linha 5", leitor.posicao());
+        assertFalse(leitor.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve escapar apenas os campos que precisam de aspas")
+    void deveEscaparCampos() {
+        // Then
+        assertEquals("Pessoal", LeitorCsvProdutos.escapar("Pessoal"));
+        assertEquals("\"Consignado, INSS\"", LeitorCsvProdutos.escapar("Consignado, INSS"));
+        assertEquals("\"Crédito \"\"Fácil\"\"\"", LeitorCsvProdutos.escapar("Crédito \"Fácil\""));
+        assertEquals("", LeitorCsvProdutos.escapar(null));
+    }
+
+    private static LeitorCsvProdutos leitor(String conteudo) {
+        return new LeitorCsvProdutos(new BufferedReader(new StringReader(conteudo)));
+    }
+}
@@ -0,0 +1,64 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeitorJsonProdutosTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve ler os produtos do array um a um")
+    void deveLerProdutosDoArray() {
+        // Given
+        LeitorJsonProdutos leitor = leitor("""
+            [{"nome": "Empréstimo Pessoal", "taxaJurosAnual": 18.00, "prazoMaximoMeses": 60},
+             {"nome": "Empréstimo Consignado", "taxaJurosAnual": 12.00, "prazoMaximoMeses": 84}]
+            """);
+
+        // When
+        ProdutoEmprestimoRequest primeiro = leitor.next();
+        ProdutoEmprestimoRequest segundo = leitor.next();
+
+        // Then
+        assertEquals("Empréstimo Pessoal", primeiro.getNome());
+        assertEquals(0, new BigDecimal("18.00").compareTo(primeiro.getTaxaJurosAnual()));
+        assertEquals(84, segundo.getPrazoMaximoMeses());
+        assertEquals("item 2", leitor.posicao());
+        assertFalse(leitor.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar array vazio")
+    void deveAceitarArrayVazio() {
+        // Then
+        assertFalse(leitor("[]").hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar conteúdo que não é array, itens inválidos e array não terminado")
+    void deveRejeitarConteudoMalformado() {
+        // Then
+        assertThrows(BadRequestException.class, () -> leitor("{\"nome\": \"A\"}"));
+
+        LeitorJsonProdutos itemInvalido = leitor("[{\"nome\": \"A\", \"taxaJurosAnual\": \"dez\"}]");
+        BadRequestException erro = assertThrows(BadRequestException.class, itemInvalido::next);
+        assertTrue(erro.getMessage().contains("item 1"));
+
+        LeitorJsonProdutos naoTerminado = leitor("[{\"nome\": \"A\"}");
+        assertThrows(BadRequestException.class, naoTerminado::next);
+    }
+
+    private LeitorJsonProdutos leitor(String conteudo) {
+        return new LeitorJsonProdutos(objectMapper, new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,84 @@
+package com.caixa.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PontosControleCronogramaTest {
+
+    private static final BigDecimal VALOR = new BigDecimal("250000.00");
+    private static final BigDecimal PARCELA = new BigDecimal("1922.29");
+    private static final BigDecimal TAXA = new BigDecimal("0.68");
+    private static final int PRAZO = 360;
+
+    @Test
+    @DisplayName("Deve posicionar o cronograma no mesmo saldo de um percurso mês a mês")
+    void devePosicionarNoMesmoSaldoDoPercursoCompleto() {
+        // Given
+        PontosControleCronograma pontosControle = new PontosControleCronograma(10);
+        CronogramaCentavos percurso = criarCronograma();
+
+        for (int mes = 1; mes <= PRAZO; mes++) {
+            percurso.avancar();
+
+            // When
+            CronogramaCentavos posicionado = criarCronograma();
+            pontosControle.posicionar(posicionado, mes);
+
+            // Then
+            assertEquals(mes, posicionado.getMes());
+            assertEquals(percurso.getSaldoDevedor(), posicionado.getSaldoDevedor(), "mes=" + mes);
+        }
+        assertEquals(1, pontosControle.tamanho());
+    }
+
+    @Test
+    @DisplayName("Não deve calcular pontos de controle para meses do primeiro bloco")
+    void naoDeveCalcularPontosParaPrimeiroBloco() {
+        // Given
+        PontosControleCronograma pontosControle = new PontosControleCronograma(10);
+        CronogramaCentavos cronograma = criarCronograma();
+
+        // When
+        pontosControle.posicionar(cronograma, PontosControleCronograma.INTERVALO - 1);
+
+        // Then
+        assertEquals(PontosControleCronograma.INTERVALO - 1, cronograma.getMes());
+        assertEquals(0, pontosControle.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve registrar pontos de controle apenas até o mês consultado")
+    void deveRegistrarPontosApenasAteMesConsultado() {
+        // Given
+        PontosControleCronograma pontosControle = new PontosControleCronograma(10);
+        CronogramaCentavos percurso = criarCronograma();
+        for (int mes = 1; mes <= 100; mes++) {
+            percurso.avancar();
+        }
+
+        // When
+        pontosControle.posicionar(criarCronograma(), 30);
+        int aposMes30 = pontosControle.pontosCalculados(criarCronograma());
+        pontosControle.posicionar(criarCronograma(), 15);
+        int aposMes15 = pontosControle.pontosCalculados(criarCronograma());
+        CronogramaCentavos mes100 = criarCronograma();
+        pontosControle.posicionar(mes100, 100);
+
+        // Then
+        assertEquals(2, aposMes30);
+        assertEquals(2, aposMes15);
+        assertEquals(8, pontosControle.pontosCalculados(criarCronograma()));
+        assertEquals(100, mes100.getMes());
+        assertEquals(percurso.getSaldoDevedor(), mes100.getSaldoDevedor());
+    }
+
+    private static CronogramaCentavos criarCronograma() {
+        CronogramaCentavos cronograma = CronogramaCentavos.criar(VALOR, PARCELA, TAXA, PRAZO);
+        assertNotNull(cronograma);
+        return cronograma;
+    }
+}
@@ -0,0 +1,182 @@
+package com.caixa.service;
+
+import com.caixa.dto.ImportacaoProdutosResponse;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import com.caixa.repository.ProdutoEmprestimoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProdutoEmprestimoCargaServiceTest {
+
+    @Mock
+    private ProdutoEmprestimoRepository produtoEmprestimoRepository;
+
+    @Mock
+    private ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ProdutoEmprestimoServiceTest.TransacaoImediata transacoes = new ProdutoEmprestimoServiceTest.TransacaoImediata();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @InjectMocks
+    private ProdutoEmprestimoCargaService produtoEmprestimoCargaService;
+
+    @BeforeEach
+    void setUp() {
+        produtoEmprestimoCargaService.tamanhoLote = 2;
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV enviando e limpando o contexto a cada lote")
+    void deveImportarCsvEmLotes() {
+        // Given
+        when(produtoEmprestimoRepository.getEntityManager()).thenReturn(entityManager);
+        String csv = "nome,taxaJurosAnual,prazoMaximoMeses\n"
+            + "Produto A,10.00,12\n"
+            + "Produto B,12.00,24\n"
+            + "Produto C,14.00,36\n";
+
+        // When
+        ImportacaoProdutosResponse resposta = produtoEmprestimoCargaService.importarCsv(conteudo(csv));
+
+        // Then
+        assertEquals(3, resposta.getQuantidadeImportada());
+        assertEquals(2, resposta.getLotes());
+        verify(produtoEmprestimoRepository, times(3)).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(produtoEmprestimoCatalogo, times(1)).recarregar();
+    }
+
+    @Test
+    @DisplayName("Não deve recarregar o catálogo quando a transação da importação é desfeita")
+    void naoDeveRecarregarCatalogoSemConfirmacao() {
+        // Given
+        transacoes.status = Status.STATUS_ROLLEDBACK;
+        when(produtoEmprestimoRepository.getEntityManager()).thenReturn(entityManager);
+        String json = "[{\"nome\": \"Produto A\", \"taxaJurosAnual\": 10.00, \"prazoMaximoMeses\": 12}]";
+
+        // When
+        produtoEmprestimoCargaService.importarJson(conteudo(json));
+
+        // Then
+        verify(produtoEmprestimoRepository).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoCatalogo, never()).recarregar();
+    }
+
+    @Test
+    @DisplayName("Deve importar array JSON vazio sem acessar o banco")
+    void deveImportarJsonVazio() {
+        // When
+        ImportacaoProdutosResponse resposta = produtoEmprestimoCargaService.importarJson(conteudo("[]"));
+
+        // Then
+        assertEquals(0, resposta.getQuantidadeImportada());
+        assertEquals(0, resposta.getLotes());
+        verify(produtoEmprestimoRepository, never()).flush();
+        verify(produtoEmprestimoCatalogo, never()).recarregar();
+    }
+
+    @Test
+    @DisplayName("Deve interromper a importação sem atualizar o catálogo quando um item é inválido")
+    void deveInterromperImportacaoComItemInvalido() {
+        // Given
+        String json = "[{\"nome\": \"Produto A\", \"taxaJurosAnual\": 10.00, \"prazoMaximoMeses\": 12}, null]";
+
+        // When
+        BadRequestException erro = assertThrows(BadRequestException.class,
+            () -> produtoEmprestimoCargaService.importarJson(conteudo(json)));
+
+        // Then
+        assertTrue(erro.getMessage().contains("item 2"));
+        verify(produtoEmprestimoRepository, times(1)).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoCatalogo, never()).recarregar();
+        verify(transacoes, never()).registerInterposedSynchronization(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tamanho de lote não positivo")
+    void deveRejeitarTamanhoDeLoteNaoPositivo() {
+        // Given
+        produtoEmprestimoCargaService.tamanhoLote = 0;
+
+        // When
+        BadRequestException erro = assertThrows(BadRequestException.class,
+            () -> produtoEmprestimoCargaService.importarJson(conteudo("[]")));
+
+        // Then
+        assertTrue(erro.getMessage().contains("Tamanho de lote"));
+        verifyNoInteractions(produtoEmprestimoRepository, produtoEmprestimoCatalogo, transacoes);
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV no mesmo formato aceito pela importação")
+    void deveExportarCsv() throws Exception {
+        // Given
+        ProdutoEmprestimo produto = new ProdutoEmprestimo("Consignado, INSS", new BigDecimal("12.00"), 84);
+        produto.id = 7L;
+        when(produtoEmprestimoCatalogo.listarTodos()).thenReturn(List.of(produto));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // When
+        produtoEmprestimoCargaService.exportarCsv(saida);
+
+        // Then
+        assertEquals("id,nome,taxaJurosAnual,prazoMaximoMeses\n7,\"Consignado, INSS\",12.00,84\n",
+            saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve exportar os produtos como array JSON")
+    void deveExportarJson() throws Exception {
+        // Given
+        ProdutoEmprestimo produto = new ProdutoEmprestimo("Pessoal", new BigDecimal("18.00"), 60);
+        produto.id = 1L;
+        when(produtoEmprestimoCatalogo.listarTodos()).thenReturn(List.of(produto));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // When
+        produtoEmprestimoCargaService.exportarJson(saida);
+
+        // Then
+        var lidos = objectMapper.readTree(saida.toByteArray());
+        assertEquals(1, lidos.size());
+        assertEquals("Pessoal", lidos.get(0).get("nome").asText());
+    }
+
+    private static ByteArrayInputStream conteudo(String texto) {
+        return new ByteArrayInputStream(texto.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+package com.caixa.service;
+
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
+import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
+import jakarta.ws.rs.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProdutoEmprestimoReativoServiceTest {
+
+    @Mock
+    private ProdutoEmprestimoService produtoEmprestimoService;
+
+    @Mock
+    private ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
+    @InjectMocks
+    private ProdutoEmprestimoReativoService produtoEmprestimoReativoService;
+
+    private final AtomicInteger tarefasDespachadas = new AtomicInteger();
+    private ProdutoEmprestimo produto;
+    private SimulacaoEmprestimoRequest simulacaoRequest;
+
+    @BeforeEach
+    void setUp() {
+        produtoEmprestimoReativoService.executorBloqueante = tarefa -> {
+            tarefasDespachadas.incrementAndGet();
+            tarefa.run();
+        };
+
+        produto = new ProdutoEmprestimo("Empréstimo Pessoal", new BigDecimal("18.00"), 60);
+        produto.id = 1L;
+
+        simulacaoRequest = new SimulacaoEmprestimoRequest();
+        simulacaoRequest.setIdProduto(1L);
+        simulacaoRequest.setValorSolicitado(new BigDecimal("10000.00"));
+        simulacaoRequest.setPrazoMeses(12);
+    }
+
+    @Test
+    @DisplayName("Deve buscar no catálogo em memória sem despachar para o pool de workers")
+    void deveBuscarEmMemoriaSemDespacharQuandoCatalogoCarregado() {
+        // Given
+        when(produtoEmprestimoCatalogo.isCarregado()).thenReturn(true);
+        when(produtoEmprestimoService.buscarPorId(1L)).thenReturn(produto);
+
+        // When
+        ProdutoEmprestimo resultado = produtoEmprestimoReativoService.buscarPorId(1L).await().indefinitely();
+
+        // Then
+        assertSame(produto, resultado);
+        assertEquals(0, tarefasDespachadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve despachar a primeira carga para o pool de workers quando o catálogo está frio")
+    void deveDespacharQuandoCatalogoNaoCarregado() {
+        // Given
+        when(produtoEmprestimoCatalogo.isCarregado()).thenReturn(false);
+        when(produtoEmprestimoService.listarTodos()).thenReturn(List.of(produto));
+
+        // When
+        List<ProdutoEmprestimo> resultado = produtoEmprestimoReativoService.listarTodos().await().indefinitely();
+
+        // Then
+        assertEquals(List.of(produto), resultado);
+        assertEquals(1, tarefasDespachadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve simular em memória sem despachar para o pool de workers")
+    void deveSimularEmMemoria() {
+        // Given
+        SimulacaoEmprestimoResponse simulacao = new SimulacaoEmprestimoResponse();
+        when(produtoEmprestimoCatalogo.isCarregado()).thenReturn(true);
+        when(produtoEmprestimoService.simularEmprestimo(simulacaoRequest)).thenReturn(simulacao);
+
+        // When
+        SimulacaoEmprestimoResponse resultado = produtoEmprestimoReativoService.simularEmprestimo(simulacaoRequest)
+            .await().indefinitely();
+
+        // Then
+        assertSame(simulacao, resultado);
+        assertEquals(0, tarefasDespachadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve despachar escritas e paginação para o pool de workers")
+    void deveDespacharOperacoesNoBanco() {
+        // Given
+        ProdutoEmprestimoRequest request = new ProdutoEmprestimoRequest();
+        when(produtoEmprestimoService.criar(request)).thenReturn(produto);
+        when(produtoEmprestimoService.listarPagina("id", "asc", null, 20))
+            .thenReturn(new ProdutoEmprestimoPaginaResponse(List.of(), null));
+
+        // When
+        produtoEmprestimoReativoService.criar(request).await().indefinitely();
+        produtoEmprestimoReativoService.listarPagina("id", "asc", null, 20).await().indefinitely();
+        produtoEmprestimoReativoService.remover(1L).await().indefinitely();
+
+        // Then
+        assertEquals(3, tarefasDespachadas.get());
+        verify(produtoEmprestimoService, times(1)).remover(1L);
+        verifyNoInteractions(produtoEmprestimoCatalogo);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a falha do serviço como falha do Uni")
+    void devePropagarFalhaDoServico() {
+        // Given
+        when(produtoEmprestimoCatalogo.isCarregado()).thenReturn(true);
+        when(produtoEmprestimoService.buscarPorId(99L)).thenThrow(new NotFoundException("Produto não encontrado"));
+
+        // When / Then
+        assertThrows(NotFoundException.class,
+            () -> produtoEmprestimoReativoService.buscarPorId(99L).await().indefinitely());
+    }
+
+    @Test
+    @DisplayName("Deve emitir o detalhamento mensal item a item")
+    void deveEmitirDetalhamentoMensal() {
+        // Given
+        SimulacaoEmprestimoResponse.DetalhamentoMensal primeiro = new SimulacaoEmprestimoResponse.DetalhamentoMensal();
+        SimulacaoEmprestimoResponse.DetalhamentoMensal segundo = new SimulacaoEmprestimoResponse.DetalhamentoMensal();
+        when(produtoEmprestimoCatalogo.isCarregado()).thenReturn(true);
+        when(produtoEmprestimoService.simularDetalhamentoMensal(simulacaoRequest)).thenReturn(List.of(primeiro, segundo));
+
+        // When
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = new ArrayList<>();
+        produtoEmprestimoReativoService.simularDetalhamentoMensal(simulacaoRequest)
+            .subscribe().asStream().forEach(meses::add);
+
+        // Then
+        assertEquals(List.of(primeiro, segundo), meses);
+        assertEquals(0, tarefasDespachadas.get());
+    }
+
+    @Test
+    @DisplayName("Deve processar o lote sempre no pool de workers")
+    void deveProcessarLoteNoPoolDeWorkers() {
+        // Given
+        when(produtoEmprestimoService.simularLote(List.of(simulacaoRequest))).thenReturn(List.of());
+
+        // When
+        produtoEmprestimoReativoService.simularLote(List.of(simulacaoRequest)).await().indefinitely();
+
+        // Then
+        assertEquals(1, tarefasDespachadas.get());
+    }
+}
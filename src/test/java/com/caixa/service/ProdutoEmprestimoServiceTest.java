@@ -1,20 +1,42 @@
 package com.caixa.service;
 
+import com.caixa.dto.ComparacaoProdutosRequest;
+import com.caixa.dto.PrazoMinimoRequest;
+import com.caixa.dto.ProdutoEmprestimoPaginaResponse;
 import com.caixa.dto.ProdutoEmprestimoRequest;
+import com.caixa.dto.ProdutoEmprestimoResumo;
 import com.caixa.dto.SimulacaoEmprestimoRequest;
 import com.caixa.dto.SimulacaoEmprestimoResponse;
+import com.caixa.dto.SimulacaoLoteItemResponse;
+import com.caixa.dto.SimulacaoResumoResponse;
+import com.caixa.dto.ValorMaximoRequest;
 import com.caixa.model.ProdutoEmprestimo;
+import com.caixa.model.SistemaAmortizacao;
+import com.caixa.repository.OrdenacaoProduto;
+import com.caixa.repository.ProdutoEmprestimoCatalogo;
 import com.caixa.repository.ProdutoEmprestimoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,9 +50,26 @@ class ProdutoEmprestimoServiceTest {
     @Mock
     private ProdutoEmprestimoRepository produtoEmprestimoRepository;
 
+    @Mock
+    private ProdutoEmprestimoCatalogo produtoEmprestimoCatalogo;
+
     @Mock
     private CalculoJurosService calculoJurosService;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SimulacaoMetricas simulacaoMetricas = new SimulacaoMetricas(meterRegistry);
+
+    @Spy
+    private SimulacaoCache simulacaoCache = new SimulacaoCache(10_000, Duration.ofMinutes(10), simulacaoMetricas);
+
+    @Spy
+    private TransacaoImediata transacoes = new TransacaoImediata();
+
+    @Spy
+    private ExecutorSimulacaoLote executorSimulacaoLote = new ExecutorSimulacaoLote(2, 4);
+
     @InjectMocks
     private ProdutoEmprestimoService produtoEmprestimoService;
 
@@ -77,57 +116,104 @@ class ProdutoEmprestimoServiceTest {
         assertEquals(produtoRequest.getTaxaJurosAnual(), resultado.taxaJurosAnual);
         assertEquals(produtoRequest.getPrazoMaximoMeses(), resultado.prazoMaximoMeses);
         verify(produtoEmprestimoRepository, times(1)).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoCatalogo, times(1)).registrar(resultado);
+    }
+
+    @Test
+    void testCriarProdutoDesfeitoNaoAlteraCatalogo() {
+        transacoes.status = Status.STATUS_ROLLEDBACK;
+
+        produtoEmprestimoService.criar(produtoRequest);
+
+        verify(produtoEmprestimoRepository, times(1)).persist(any(ProdutoEmprestimo.class));
+        verifyNoInteractions(produtoEmprestimoCatalogo);
     }
 
     @Test
     void testListarTodos() {
         List<ProdutoEmprestimo> produtos = Arrays.asList(produto);
-        when(produtoEmprestimoRepository.listAll()).thenReturn(produtos);
+        when(produtoEmprestimoCatalogo.listarTodos()).thenReturn(produtos);
 
         List<ProdutoEmprestimo> resultado = produtoEmprestimoService.listarTodos();
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(produtoEmprestimoRepository, times(1)).listAll();
+        verify(produtoEmprestimoCatalogo, times(1)).listarTodos();
+        verifyNoInteractions(produtoEmprestimoRepository);
     }
 
     @Test
     void testBuscarPorId() {
-        when(produtoEmprestimoRepository.findById(1L)).thenReturn(produto);
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
 
         ProdutoEmprestimo resultado = produtoEmprestimoService.buscarPorId(1L);
 
         assertNotNull(resultado);
         assertEquals(1L, resultado.id);
-        verify(produtoEmprestimoRepository, times(1)).findById(1L);
+        verify(produtoEmprestimoCatalogo, times(1)).buscarPorId(1L);
+        verifyNoInteractions(produtoEmprestimoRepository);
     }
 
     @Test
     void testBuscarPorIdInexistente() {
-        when(produtoEmprestimoRepository.findById(999L)).thenReturn(null);
+        when(produtoEmprestimoCatalogo.buscarPorId(999L)).thenReturn(Optional.empty());
 
         assertThrows(Exception.class, () -> produtoEmprestimoService.buscarPorId(999L));
-        verify(produtoEmprestimoRepository, times(1)).findById(999L);
+        verify(produtoEmprestimoCatalogo, times(1)).buscarPorId(999L);
     }
 
     @Test
     void testAtualizarProduto() {
+        when(produtoEmprestimoRepository.atualizarDados(eq(1L), eq("Empréstimo Teste"), eq(new BigDecimal("15.00")), eq(36),
+            any(Instant.class), isNull())).thenReturn(1);
         when(produtoEmprestimoRepository.findById(1L)).thenReturn(produto);
-        doNothing().when(produtoEmprestimoRepository).persist(any(ProdutoEmprestimo.class));
 
         ProdutoEmprestimo resultado = produtoEmprestimoService.atualizar(1L, produtoRequest);
 
         assertNotNull(resultado);
         assertEquals(1L, resultado.id);
         verify(produtoEmprestimoRepository, times(1)).findById(1L);
-        verify(produtoEmprestimoRepository, times(1)).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoRepository, never()).persist(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoCatalogo, times(1)).registrar(produto);
+        verify(calculoJurosService, times(1)).invalidarTabela(1L);
+        verify(simulacaoCache, times(1)).invalidar(1L);
+    }
+
+    @Test
+    void testAtualizarProdutoNaVersaoEsperada() {
+        when(produtoEmprestimoRepository.atualizarDados(eq(1L), eq("Empréstimo Teste"), eq(new BigDecimal("15.00")), eq(36),
+            any(Instant.class), eq(4L))).thenReturn(1);
+
+        ProdutoEmprestimo resultado = produtoEmprestimoService.atualizar(1L, produtoRequest, 4L);
+
+        assertEquals(1L, resultado.id);
+        assertEquals(5L, resultado.versao);
+        assertNotNull(resultado.atualizadoEm);
+        assertEquals("Empréstimo Teste", resultado.nome);
+        verify(produtoEmprestimoRepository, never()).findById(anyLong());
+        verify(produtoEmprestimoCatalogo, times(1)).registrar(resultado);
+        verify(simulacaoCache, times(1)).invalidar(1L);
+    }
+
+    @Test
+    void testAtualizarProdutoEmVersaoDesatualizada() {
+        when(produtoEmprestimoRepository.atualizarDados(eq(1L), any(), any(), any(), any(Instant.class), eq(4L))).thenReturn(0);
+        when(produtoEmprestimoRepository.findById(1L)).thenReturn(produto);
+
+        ClientErrorException erro = assertThrows(ClientErrorException.class,
+            () -> produtoEmprestimoService.atualizar(1L, produtoRequest, 4L));
+
+        assertEquals(412, erro.getResponse().getStatus());
+        verifyNoInteractions(produtoEmprestimoCatalogo, calculoJurosService);
+        verify(simulacaoCache, never()).invalidar(anyLong());
     }
 
     @Test
     void testAtualizarProdutoInexistente() {
+        when(produtoEmprestimoRepository.atualizarDados(eq(999L), any(), any(), any(), any(Instant.class), isNull())).thenReturn(0);
         when(produtoEmprestimoRepository.findById(999L)).thenReturn(null);
 
-        assertThrows(Exception.class, () -> produtoEmprestimoService.atualizar(999L, produtoRequest));
+        assertThrows(NotFoundException.class, () -> produtoEmprestimoService.atualizar(999L, produtoRequest));
         verify(produtoEmprestimoRepository, times(1)).findById(999L);
         verify(produtoEmprestimoRepository, never()).persist(any(ProdutoEmprestimo.class));
     }
@@ -141,6 +227,21 @@ class ProdutoEmprestimoServiceTest {
 
         verify(produtoEmprestimoRepository, times(1)).findById(1L);
         verify(produtoEmprestimoRepository, times(1)).delete(any(ProdutoEmprestimo.class));
+        verify(produtoEmprestimoCatalogo, times(1)).remover(1L);
+        verify(calculoJurosService, times(1)).invalidarTabela(1L);
+        verify(simulacaoCache, times(1)).invalidar(1L);
+    }
+
+    @Test
+    void testRemoverProdutoDesfeitoMantemCatalogoECaches() {
+        transacoes.status = Status.STATUS_ROLLEDBACK;
+        when(produtoEmprestimoRepository.findById(1L)).thenReturn(produto);
+
+        produtoEmprestimoService.remover(1L);
+
+        verify(produtoEmprestimoRepository, times(1)).delete(produto);
+        verifyNoInteractions(produtoEmprestimoCatalogo, calculoJurosService);
+        verify(simulacaoCache, never()).invalidar(anyLong());
     }
 
     @Test
@@ -154,25 +255,368 @@ class ProdutoEmprestimoServiceTest {
 
     @Test
     void testSimularEmprestimo() {
-        when(produtoEmprestimoRepository.findById(1L)).thenReturn(produto);
-        when(calculoJurosService.simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt()))
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any()))
             .thenReturn(simulacaoResponse);
 
         SimulacaoEmprestimoResponse resultado = produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
 
         assertNotNull(resultado);
         assertEquals(produto, resultado.produto);
-        verify(produtoEmprestimoRepository, times(1)).findById(1L);
-        verify(calculoJurosService, times(1)).simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt());
+        verify(produtoEmprestimoCatalogo, times(1)).buscarPorId(1L);
+        verifyNoInteractions(produtoEmprestimoRepository);
+        verify(calculoJurosService, times(1)).simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any());
+    }
+
+    @Test
+    void testSimularEmprestimoComJanelaAteOFimDoPrazo() {
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(produto, simulacaoRequest.getValorSolicitado(), 18,
+            SistemaAmortizacao.PRICE, 13, 18)).thenReturn(simulacaoResponse);
+
+        assertSame(simulacaoResponse, produtoEmprestimoService.simularEmprestimo(simulacaoRequest, 13, null));
+        verify(calculoJurosService, never()).simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any());
+    }
+
+    @Test
+    void testSimularEmprestimoSemJanelaUsaSimulacaoCompleta() {
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any()))
+            .thenReturn(simulacaoResponse);
+
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest, null, null);
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+
+        verify(calculoJurosService, times(1)).simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any());
+    }
+
+    @Test
+    void testSimularEmprestimoComJanelaForaDoPrazo() {
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularEmprestimo(simulacaoRequest, 0, null));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularEmprestimo(simulacaoRequest, null, 19));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularEmprestimo(simulacaoRequest, 10, 9));
+        verifyNoInteractions(produtoEmprestimoCatalogo, calculoJurosService);
+    }
+
+    @Test
+    void testSimularEmprestimoRepetidoServidoPeloCache() {
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(eq(produto), any(BigDecimal.class), eq(18), eq(SistemaAmortizacao.PRICE))).thenReturn(simulacaoResponse);
+        SimulacaoEmprestimoRequest mesmaRequisicao = new SimulacaoEmprestimoRequest(1L, new BigDecimal("8000.00"), 18);
+
+        SimulacaoEmprestimoResponse primeiro = produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+        SimulacaoEmprestimoResponse resultado = produtoEmprestimoService.simularEmprestimo(mesmaRequisicao);
+
+        assertSame(primeiro, resultado);
+        verify(calculoJurosService, times(1)).simularEmprestimo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any());
+        assertEquals(1.0, meterRegistry.get(SimulacaoMetricas.CACHE_ACESSOS).tag("resultado", "acerto").counter().count());
+        assertEquals(1.0, meterRegistry.get(SimulacaoMetricas.CACHE_ACESSOS).tag("resultado", "falha").counter().count());
+        assertEquals(2, meterRegistry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("operacao", "completa").tag("resultado", "sucesso").timer().count());
+    }
+
+    @Test
+    void testAtualizarProdutoInvalidaSimulacoesEmCache() {
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(produtoEmprestimoRepository.atualizarDados(eq(1L), any(), any(), any(), any(Instant.class), eq(0L))).thenReturn(1);
+        when(calculoJurosService.simularEmprestimo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE)).thenReturn(simulacaoResponse);
+
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+        produtoEmprestimoService.atualizar(1L, produtoRequest, 0L);
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+
+        verify(calculoJurosService, times(2)).simularEmprestimo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE);
+    }
+
+    @Test
+    void testSimularEmprestimoSacNaoReutilizaSimulacaoPriceEmCache() {
+        SimulacaoEmprestimoRequest sac = new SimulacaoEmprestimoRequest(1L, new BigDecimal("8000.00"), 18, SistemaAmortizacao.SAC);
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(eq(produto), any(BigDecimal.class), eq(18), any())).thenReturn(simulacaoResponse);
+
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+        produtoEmprestimoService.simularEmprestimo(sac);
+        produtoEmprestimoService.simularEmprestimo(sac);
+
+        verify(calculoJurosService, times(1)).simularEmprestimo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE);
+        verify(calculoJurosService, times(1)).simularEmprestimo(produto, sac.getValorSolicitado(), 18, SistemaAmortizacao.SAC);
+    }
+
+    @Test
+    void testSimularIntervaloSemMesFinalRetornaApenasMesInicial() {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = List.of(new SimulacaoEmprestimoResponse.DetalhamentoMensal());
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularIntervalo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE, 6, 6))
+            .thenReturn(meses);
+
+        assertSame(meses, produtoEmprestimoService.simularIntervalo(simulacaoRequest, 6, null));
+    }
+
+    @Test
+    void testSimularIntervaloForaDoPrazo() {
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularIntervalo(simulacaoRequest, null, 3));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularIntervalo(simulacaoRequest, 0, 3));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularIntervalo(simulacaoRequest, 5, 4));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.simularIntervalo(simulacaoRequest, 12, 19));
+        verifyNoInteractions(produtoEmprestimoCatalogo, calculoJurosService);
+    }
+
+    @Test
+    void testCalcularValorMaximoRetornaResumoDoValorEncontrado() {
+        ValorMaximoRequest request = new ValorMaximoRequest(1L, new BigDecimal("500.00"), 24);
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.calcularValorMaximo(produto, new BigDecimal("500.00"), 24)).thenReturn(new BigDecimal("10320.45"));
+        when(calculoJurosService.simularResumo(produto, new BigDecimal("10320.45"), 24, SistemaAmortizacao.PRICE)).thenReturn(resumo);
+
+        assertSame(resumo, produtoEmprestimoService.calcularValorMaximo(request));
+    }
+
+    @Test
+    void testCalcularPrazoMinimoSemSolucao() {
+        PrazoMinimoRequest request = new PrazoMinimoRequest(1L, new BigDecimal("8000.00"), new BigDecimal("10.00"));
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.calcularPrazoMinimo(produto, new BigDecimal("8000.00"), new BigDecimal("10.00")))
+            .thenThrow(new IllegalArgumentException("Nenhum prazo até o máximo de 36 meses do produto comporta a parcela informada"));
+
+        BadRequestException erro = assertThrows(BadRequestException.class, () -> produtoEmprestimoService.calcularPrazoMinimo(request));
+
+        assertTrue(erro.getMessage().contains("36 meses"));
+        verify(calculoJurosService, never()).simularResumo(any(ProdutoEmprestimo.class), any(BigDecimal.class), anyInt(), any());
+    }
+
+    @Test
+    void testCompararProdutosOrdenaPorCustoTotalEFiltraPorPrazo() {
+        ProdutoEmprestimo prazoCurto = new ProdutoEmprestimo("Prazo curto", new BigDecimal("9.00"), 12);
+        prazoCurto.id = 2L;
+        ProdutoEmprestimo maisBarato = new ProdutoEmprestimo("Mais barato", new BigDecimal("10.00"), 48);
+        maisBarato.id = 3L;
+        ComparacaoProdutosRequest request = new ComparacaoProdutosRequest(new BigDecimal("8000.00"), 24);
+        SimulacaoResumoResponse resumoProduto = resumo(produto, "400.00", "9600.00");
+        SimulacaoResumoResponse resumoMaisBarato = resumo(maisBarato, "380.00", "9120.00");
+        when(produtoEmprestimoCatalogo.listarTodos()).thenReturn(List.of(produto, prazoCurto, maisBarato));
+        when(calculoJurosService.simularResumo(produto, request.getValorSolicitado(), 24, SistemaAmortizacao.PRICE))
+            .thenReturn(resumoProduto);
+        when(calculoJurosService.simularResumo(maisBarato, request.getValorSolicitado(), 24, SistemaAmortizacao.PRICE))
+            .thenReturn(resumoMaisBarato);
+
+        assertEquals(List.of(resumoMaisBarato, resumoProduto), produtoEmprestimoService.compararProdutos(request, null));
+        assertEquals(List.of(resumoMaisBarato), produtoEmprestimoService.compararProdutos(request, 1));
+        verify(calculoJurosService, never()).simularResumo(eq(prazoCurto), any(BigDecimal.class), anyInt(), any());
+    }
+
+    @Test
+    void testCompararProdutosComLimiteInvalido() {
+        ComparacaoProdutosRequest request = new ComparacaoProdutosRequest(new BigDecimal("8000.00"), 24);
+
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.compararProdutos(request, 0));
+        verifyNoInteractions(produtoEmprestimoCatalogo, calculoJurosService);
     }
 
     @Test
     void testSimularEmprestimoComProdutoInexistente() {
         simulacaoRequest.setIdProduto(999L);
-        when(produtoEmprestimoRepository.findById(999L)).thenReturn(null);
+        when(produtoEmprestimoCatalogo.buscarPorId(999L)).thenReturn(Optional.empty());
 
         assertThrows(Exception.class, () -> produtoEmprestimoService.simularEmprestimo(simulacaoRequest));
-        verify(produtoEmprestimoRepository, times(1)).findById(999L);
-        verify(calculoJurosService, never()).simularEmprestimo(any(), any(), anyInt());
+        verify(produtoEmprestimoCatalogo, times(1)).buscarPorId(999L);
+        verify(calculoJurosService, never()).simularEmprestimo(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testSimularEmprestimoRegistraMetricas() {
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularEmprestimo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE)).thenReturn(simulacaoResponse);
+
+        produtoEmprestimoService.simularEmprestimo(simulacaoRequest);
+
+        assertEquals(1, meterRegistry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("operacao", "completa").tag("faixa_prazo", "13_a_36").tag("resultado", "sucesso")
+            .timer().count());
+        assertNull(meterRegistry.find(SimulacaoMetricas.SIMULACAO_DURACAO).tagKeys("produto").timer());
+        assertEquals(1, meterRegistry.get(SimulacaoMetricas.CONSULTA_DURACAO)
+            .tag("consulta", "catalogo_buscar_por_id").timer().count());
+    }
+
+    @Test
+    void testSimularEmprestimoContabilizaErrosPorTipo() {
+        simulacaoRequest.setIdProduto(999L);
+        when(produtoEmprestimoCatalogo.buscarPorId(999L)).thenReturn(Optional.empty());
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        SimulacaoEmprestimoRequest prazoExcedido = new SimulacaoEmprestimoRequest(1L, new BigDecimal("1000.00"), 48);
+        when(calculoJurosService.simularEmprestimo(produto, prazoExcedido.getValorSolicitado(), 48, SistemaAmortizacao.PRICE))
+            .thenThrow(new IllegalArgumentException("Prazo solicitado excede o prazo máximo do produto"));
+
+        assertThrows(NotFoundException.class, () -> produtoEmprestimoService.simularEmprestimo(simulacaoRequest));
+        assertThrows(IllegalArgumentException.class, () -> produtoEmprestimoService.simularEmprestimo(prazoExcedido));
+
+        assertEquals(1.0, meterRegistry.get(SimulacaoMetricas.SIMULACAO_ERROS)
+            .tag("operacao", "completa").tag("excecao", "NotFoundException").counter().count());
+        assertEquals(1.0, meterRegistry.get(SimulacaoMetricas.SIMULACAO_ERROS)
+            .tag("operacao", "completa").tag("excecao", "IllegalArgumentException").counter().count());
+        assertEquals(1, meterRegistry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("faixa_prazo", "13_a_36").tag("resultado", "erro").timer().count());
+        assertEquals(1, meterRegistry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("faixa_prazo", "37_a_60").tag("resultado", "erro").timer().count());
+    }
+
+    @Test
+    void testSimularLotePreservaOrdemEIsolaErros() {
+        SimulacaoEmprestimoRequest produtoInexistente = new SimulacaoEmprestimoRequest(999L, new BigDecimal("1000.00"), 12);
+        SimulacaoEmprestimoRequest prazoExcedido = new SimulacaoEmprestimoRequest(1L, new BigDecimal("1000.00"), 48);
+        SimulacaoEmprestimoRequest semPrazo = new SimulacaoEmprestimoRequest(1L, new BigDecimal("1000.00"), null);
+        List<SimulacaoEmprestimoRequest> lote = Arrays.asList(simulacaoRequest, produtoInexistente, prazoExcedido, null, semPrazo);
+
+        when(produtoEmprestimoCatalogo.buscarPorIds(List.of(1L, 999L))).thenReturn(Map.of(1L, produto));
+        when(calculoJurosService.simularEmprestimo(eq(produto), any(BigDecimal.class), eq(18), eq(SistemaAmortizacao.PRICE))).thenReturn(simulacaoResponse);
+        when(calculoJurosService.simularEmprestimo(eq(produto), any(BigDecimal.class), eq(48), eq(SistemaAmortizacao.PRICE)))
+            .thenThrow(new IllegalArgumentException("Prazo solicitado excede o prazo máximo do produto"));
+
+        List<SimulacaoLoteItemResponse> resultado = produtoEmprestimoService.simularLote(lote);
+
+        assertEquals(5, resultado.size());
+        for (int i = 0; i < resultado.size(); i++) {
+            assertEquals(i, resultado.get(i).getIndice());
+        }
+        assertSame(simulacaoResponse, resultado.get(0).getSimulacao());
+        assertNull(resultado.get(0).getErro());
+        assertEquals("Produto não encontrado com ID: 999", resultado.get(1).getErro());
+        assertEquals("Prazo solicitado excede o prazo máximo do produto", resultado.get(2).getErro());
+        assertEquals("Requisição de simulação é obrigatória", resultado.get(3).getErro());
+        assertEquals("Prazo em meses é obrigatório", resultado.get(4).getErro());
+        verify(produtoEmprestimoCatalogo, times(1)).buscarPorIds(List.of(1L, 999L));
+        verifyNoInteractions(produtoEmprestimoRepository);
+    }
+
+    @Test
+    void testSimularDetalhamentoMensal() {
+        List<SimulacaoEmprestimoResponse.DetalhamentoMensal> meses = List.of(new SimulacaoEmprestimoResponse.DetalhamentoMensal());
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularDetalhamentoMensal(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE)).thenReturn(meses);
+
+        Iterable<SimulacaoEmprestimoResponse.DetalhamentoMensal> resultado = produtoEmprestimoService.simularDetalhamentoMensal(simulacaoRequest);
+
+        assertSame(meses, resultado);
+        verify(calculoJurosService, times(1)).simularDetalhamentoMensal(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE);
+    }
+
+    @Test
+    void testSimularResumo() {
+        SimulacaoResumoResponse resumo = new SimulacaoResumoResponse();
+        when(produtoEmprestimoCatalogo.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(calculoJurosService.simularResumo(produto, simulacaoRequest.getValorSolicitado(), 18, SistemaAmortizacao.PRICE)).thenReturn(resumo);
+
+        SimulacaoResumoResponse resultado = produtoEmprestimoService.simularResumo(simulacaoRequest);
+
+        assertSame(resumo, resultado);
+        verify(calculoJurosService, never()).simularEmprestimo(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testListarPaginaComProximaPagina() {
+        List<ProdutoEmprestimoResumo> encontrados = Arrays.asList(
+            new ProdutoEmprestimoResumo(3L, "Empréstimo Imobiliário", new BigDecimal("8.50")),
+            new ProdutoEmprestimoResumo(2L, "Empréstimo Consignado", new BigDecimal("12.00")),
+            new ProdutoEmprestimoResumo(4L, "Empréstimo Veicular", new BigDecimal("15.00")));
+        when(produtoEmprestimoRepository.buscarPagina(OrdenacaoProduto.TAXA, true, null, 3)).thenReturn(encontrados);
+
+        ProdutoEmprestimoPaginaResponse resultado = produtoEmprestimoService.listarPagina("taxa", "asc", null, 2);
+
+        assertEquals(2, resultado.getItens().size());
+        assertEquals(3L, resultado.getItens().get(0).getId());
+        assertEquals(2L, resultado.getItens().get(1).getId());
+        assertTrue(resultado.isPossuiProxima());
+        assertNotNull(resultado.getProximoCursor());
+        verifyNoInteractions(produtoEmprestimoCatalogo);
+    }
+
+    @Test
+    void testListarPaginaContinuaAPartirDoCursor() {
+        String cursor = ProdutoEmprestimoService.codificarCursor(OrdenacaoProduto.NOME,
+            new ProdutoEmprestimoResumo(2L, "Empréstimo Consignado", new BigDecimal("12.00")));
+        when(produtoEmprestimoRepository.buscarPagina(eq(OrdenacaoProduto.NOME), eq(false), any(ProdutoEmprestimoResumo.class), eq(21)))
+            .thenReturn(Arrays.asList(new ProdutoEmprestimoResumo(5L, "Empréstimo Empresarial", new BigDecimal("22.00"))));
+
+        ProdutoEmprestimoPaginaResponse resultado = produtoEmprestimoService.listarPagina("nome", "desc", cursor, 20);
+
+        assertEquals(1, resultado.getItens().size());
+        assertFalse(resultado.isPossuiProxima());
+        assertNull(resultado.getProximoCursor());
+        verify(produtoEmprestimoRepository).buscarPagina(eq(OrdenacaoProduto.NOME), eq(false),
+            argThat(apos -> apos.id == 2L && "Empréstimo Consignado".equals(apos.nome)), eq(21));
+    }
+
+    @Test
+    void testCursorPreservaChaveDoUltimoItem() {
+        ProdutoEmprestimoResumo ultimo = new ProdutoEmprestimoResumo(4L, "Empréstimo Veicular", new BigDecimal("15.00"));
+
+        ProdutoEmprestimoResumo porTaxa = ProdutoEmprestimoService.decodificarCursor(
+            ProdutoEmprestimoService.codificarCursor(OrdenacaoProduto.TAXA, ultimo), OrdenacaoProduto.TAXA);
+        ProdutoEmprestimoResumo porId = ProdutoEmprestimoService.decodificarCursor(
+            ProdutoEmprestimoService.codificarCursor(OrdenacaoProduto.ID, ultimo), OrdenacaoProduto.ID);
+
+        assertEquals(4L, porTaxa.id);
+        assertEquals(new BigDecimal("15.00"), porTaxa.taxaJurosAnual);
+        assertEquals(4L, porId.id);
+        assertNull(porId.nome);
+    }
+
+    @Test
+    void testListarPaginaRejeitaParametrosInvalidos() {
+        String cursorDeOutraOrdenacao = ProdutoEmprestimoService.codificarCursor(OrdenacaoProduto.ID,
+            new ProdutoEmprestimoResumo(1L, "Empréstimo Pessoal", new BigDecimal("18.00")));
+
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.listarPagina("prazo", "asc", null, 10));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.listarPagina("id", "cima", null, 10));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.listarPagina("id", "asc", "%%%", 10));
+        assertThrows(BadRequestException.class, () -> produtoEmprestimoService.listarPagina("nome", "asc", cursorDeOutraOrdenacao, 10));
+        verifyNoInteractions(produtoEmprestimoRepository);
+    }
+
+    private static SimulacaoResumoResponse resumo(ProdutoEmprestimo produto, String parcela, String total) {
+        return new SimulacaoResumoResponse(produto.id, produto.nome, produto.taxaJurosAnual, BigDecimal.ONE,
+            new BigDecimal("8000.00"), 24, new BigDecimal(parcela), new BigDecimal(total));
+    }
+
+    /**
+     * Conclui a transação assim que a sincronização é registrada, com o status configurado
+     */
+    static class TransacaoImediata implements TransactionSynchronizationRegistry {
+
+        int status = Status.STATUS_COMMITTED;
+
+        @Override
+        public void registerInterposedSynchronization(Synchronization sincronizacao) {
+            sincronizacao.beforeCompletion();
+            sincronizacao.afterCompletion(status);
+        }
+
+        @Override
+        public Object getTransactionKey() {
+            return null;
+        }
+
+        @Override
+        public void putResource(Object chave, Object valor) {
+        }
+
+        @Override
+        public Object getResource(Object chave) {
+            return null;
+        }
+
+        @Override
+        public int getTransactionStatus() {
+            return Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+        }
+
+        @Override
+        public boolean getRollbackOnly() {
+            return false;
+        }
     }
 }
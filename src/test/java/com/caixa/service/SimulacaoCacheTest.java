@@ -0,0 +1,184 @@
+package com.caixa.service;
+
+import com.caixa.dto.SimulacaoEmprestimoRequest;
+import com.caixa.dto.SimulacaoEmprestimoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulacaoCacheTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final AtomicInteger calculos = new AtomicInteger();
+    private MeterRegistry registry;
+    private SimulacaoCache simulacaoCache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        simulacaoCache = new SimulacaoCache(3, Duration.ofMinutes(10), new SimulacaoMetricas(registry), relogio::get);
+    }
+
+    @Test
+    @DisplayName("Deve calcular apenas uma vez requisições iguais e contabilizar acertos e falhas")
+    void deveCalcularUmaVezRequisicoesIguais() {
+        // Given
+        SimulacaoEmprestimoRequest original = new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 12);
+        SimulacaoEmprestimoRequest igual = new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 12);
+
+        // When
+        SimulacaoEmprestimoResponse primeira = simulacaoCache.obter(original, () -> simular(original));
+        SimulacaoEmprestimoResponse repetida = simulacaoCache.obter(original, () -> simular(original));
+        SimulacaoEmprestimoResponse deOutraRequisicao = simulacaoCache.obter(igual, () -> simular(igual));
+
+        // Then
+        assertEquals(1, calculos.get());
+        assertSame(primeira, repetida);
+        assertSame(primeira, deOutraRequisicao);
+        assertEquals(2.0, registry.get(SimulacaoMetricas.CACHE_ACESSOS).tag("resultado", "acerto").counter().count());
+        assertEquals(1.0, registry.get(SimulacaoMetricas.CACHE_ACESSOS).tag("resultado", "falha").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar produto, valor, escala do valor e prazo na chave")
+    void deveDiferenciarProdutoValorEPrazo() {
+        // Given
+        SimulacaoEmprestimoRequest[] requests = {
+            new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 12),
+            new SimulacaoEmprestimoRequest(2L, new BigDecimal("10000.00"), 12),
+            new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.01"), 12),
+            new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.000"), 12),
+            new SimulacaoEmprestimoRequest(1L, new BigDecimal("10000.00"), 24)
+        };
+
+        // When
+        for (SimulacaoEmprestimoRequest request : requests) {
+            simulacaoCache.obter(request, () -> simular(request));
+        }
+
+        // Then
+        assertEquals(5, calculos.get());
+    }
+
+    @Test
+    @DisplayName("Deve expirar os resultados após o tempo configurado")
+    void deveExpirarResultados() {
+        // Given
+        SimulacaoEmprestimoRequest request = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), 6);
+        simulacaoCache.obter(request, () -> simular(request));
+
+        // When
+        relogio.addAndGet(Duration.ofMinutes(11).toNanos());
+        simulacaoCache.obter(request, () -> simular(request));
+
+        // Then
+        assertEquals(2, calculos.get());
+    }
+
+    @Test
+    @DisplayName("Deve contar como um mês as simulações sem cronograma")
+    void deveContarUmMesSemCronograma() {
+        // When
+        for (int prazo = 1; prazo <= 10; prazo++) {
+            SimulacaoEmprestimoRequest request = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), prazo);
+            simulacaoCache.obter(request, () -> simular(request));
+        }
+
+        // Then
+        assertTrue(simulacaoCache.tamanho() <= 3);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o cache pelo total de meses dos cronogramas")
+    void deveLimitarPeloTotalDeMeses() {
+        // Given
+        SimulacaoCache cachePorMeses = new SimulacaoCache(30, Duration.ofMinutes(10), new SimulacaoMetricas(registry), relogio::get);
+
+        // When
+        for (int produto = 1; produto <= 5; produto++) {
+            SimulacaoEmprestimoRequest request = new SimulacaoEmprestimoRequest((long) produto, new BigDecimal("5000.00"), 12);
+            cachePorMeses.obter(request, () -> simular(request, 12));
+        }
+
+        // Then
+        assertTrue(cachePorMeses.tamanho() <= 2);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar apenas as simulações do produto informado")
+    void deveInvalidarApenasOProdutoInformado() {
+        // Given
+        SimulacaoEmprestimoRequest produto1 = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), 6);
+        SimulacaoEmprestimoRequest produto2 = new SimulacaoEmprestimoRequest(2L, new BigDecimal("5000.00"), 6);
+        simulacaoCache.obter(produto1, () -> simular(produto1));
+        simulacaoCache.obter(produto2, () -> simular(produto2));
+
+        // When
+        simulacaoCache.invalidar(1L);
+        simulacaoCache.obter(produto1, () -> simular(produto1));
+        simulacaoCache.obter(produto2, () -> simular(produto2));
+
+        // Then
+        assertEquals(3, calculos.get());
+    }
+
+    @Test
+    @DisplayName("Não deve servir simulação calculada durante a invalidação do produto")
+    void naoDeveServirSimulacaoConcorrenteComInvalidacao() {
+        // Given
+        SimulacaoEmprestimoRequest request = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), 6);
+
+        // When: o produto é atualizado enquanto a primeira simulação ainda está em cálculo
+        simulacaoCache.obter(request, () -> {
+            simulacaoCache.invalidar(1L);
+            return simular(request);
+        });
+        simulacaoCache.obter(request, () -> simular(request));
+
+        // Then
+        assertEquals(2, calculos.get());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar falhas nem requisições incompletas")
+    void naoDeveArmazenarFalhasNemRequisicoesIncompletas() {
+        // Given
+        SimulacaoEmprestimoRequest request = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), 6);
+        SimulacaoEmprestimoRequest semPrazo = new SimulacaoEmprestimoRequest(1L, new BigDecimal("5000.00"), null);
+
+        // When
+        assertThrows(IllegalArgumentException.class, () -> simulacaoCache.obter(request, () -> {
+            calculos.incrementAndGet();
+            throw new IllegalArgumentException("Prazo inválido");
+        }));
+        simulacaoCache.obter(request, () -> simular(request));
+        simulacaoCache.obter(semPrazo, () -> simular(semPrazo));
+        simulacaoCache.obter(semPrazo, () -> simular(semPrazo));
+
+        // Then
+        assertEquals(4, calculos.get());
+        assertEquals(1, simulacaoCache.tamanho());
+    }
+
+    private SimulacaoEmprestimoResponse simular(SimulacaoEmprestimoRequest request) {
+        return simular(request, 0);
+    }
+
+    private SimulacaoEmprestimoResponse simular(SimulacaoEmprestimoRequest request, int meses) {
+        calculos.incrementAndGet();
+        SimulacaoEmprestimoResponse resposta = new SimulacaoEmprestimoResponse();
+        resposta.valorSolicitado = request.getValorSolicitado();
+        resposta.memoriaCalculo = Collections.nCopies(meses, new SimulacaoEmprestimoResponse.DetalhamentoMensal());
+        return resposta;
+    }
+}
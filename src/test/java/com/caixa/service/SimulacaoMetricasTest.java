@@ -0,0 +1,92 @@
+package com.caixa.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulacaoMetricasTest {
+
+    private MeterRegistry registry;
+    private SimulacaoMetricas simulacaoMetricas;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        simulacaoMetricas = new SimulacaoMetricas(registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar latência da simulação por operação e faixa de prazo, sem o produto")
+    void deveRegistrarLatenciaDaSimulacao() {
+        // When
+        String resultado = simulacaoMetricas.medirSimulacao("completa", 360, () -> "ok");
+
+        // Then
+        assertEquals("ok", resultado);
+        assertEquals(1, registry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("operacao", "completa")
+            .tag("faixa_prazo", "121_a_360")
+            .tag("resultado", "sucesso")
+            .timer().count());
+        assertNull(registry.find(SimulacaoMetricas.SIMULACAO_DURACAO).tagKeys("produto").timer());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar erro e propagar a exceção da simulação")
+    void deveContabilizarErroEPropagarExcecao() {
+        // When
+        assertThrows(IllegalArgumentException.class, () ->
+            simulacaoMetricas.medirSimulacao("resumo", 12, () -> {
+                throw new IllegalArgumentException("Valor solicitado deve ser positivo");
+            }));
+
+        // Then
+        assertEquals(1.0, registry.get(SimulacaoMetricas.SIMULACAO_ERROS)
+            .tag("operacao", "resumo")
+            .tag("excecao", "IllegalArgumentException")
+            .counter().count());
+        assertEquals(1, registry.get(SimulacaoMetricas.SIMULACAO_DURACAO)
+            .tag("resultado", "erro")
+            .timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve medir consultas por tipo")
+    void deveMedirConsultasPorTipo() {
+        // When
+        simulacaoMetricas.medirConsulta("banco_buscar_por_id", () -> null);
+        simulacaoMetricas.medirConsulta("banco_buscar_por_id", () -> null);
+
+        // Then
+        assertEquals(2, registry.get(SimulacaoMetricas.CONSULTA_DURACAO)
+            .tag("consulta", "banco_buscar_por_id")
+            .timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar prazos em faixas fixas")
+    void deveAgruparPrazosEmFaixas() {
+        assertEquals("ate_12", SimulacaoMetricas.faixaPrazo(12));
+        assertEquals("13_a_36", SimulacaoMetricas.faixaPrazo(13));
+        assertEquals("37_a_60", SimulacaoMetricas.faixaPrazo(60));
+        assertEquals("61_a_120", SimulacaoMetricas.faixaPrazo(84));
+        assertEquals("121_a_360", SimulacaoMetricas.faixaPrazo(360));
+        assertEquals("acima_360", SimulacaoMetricas.faixaPrazo(420));
+        assertEquals("invalido", SimulacaoMetricas.faixaPrazo(null));
+        assertEquals("invalido", SimulacaoMetricas.faixaPrazo(0));
+    }
+
+    @Test
+    @DisplayName("Deve funcionar sem registro associado")
+    void deveFuncionarSemRegistro() {
+        // Given
+        SimulacaoMetricas semRegistro = SimulacaoMetricas.semRegistro();
+
+        // When / Then
+        assertEquals(42, semRegistro.medirCronograma(() -> 42));
+    }
+}